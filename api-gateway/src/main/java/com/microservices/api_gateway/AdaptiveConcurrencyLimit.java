@@ -0,0 +1,95 @@
+package com.microservices.api_gateway;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 0.01;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private double limit;
+    private volatile double shortRtt;
+    private double longRtt;
+    private volatile int currentLimit;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+        this.currentLimit = (int) limit;
+    }
+
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= currentLimit) {
+                return -1;
+            }
+
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    public void onSuccess(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        update(rttNanos, inFlightAtStart);
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        backOff();
+    }
+
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(2 * shortRtt / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtStart) {
+        shortRtt = shortRtt == 0 ? rttNanos : shortRtt * (1 - SHORT_RTT_WEIGHT) + rttNanos * SHORT_RTT_WEIGHT;
+        longRtt = longRtt == 0 ? rttNanos : longRtt * (1 - LONG_RTT_WEIGHT) + rttNanos * LONG_RTT_WEIGHT;
+
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        if (inFlightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRtt / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        setLimit(limit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private synchronized void backOff() {
+        setLimit(limit * BACKOFF_RATIO);
+    }
+
+    private void setLimit(double newLimit) {
+        limit = Math.max(minLimit, Math.min(newLimit, maxLimit));
+        currentLimit = (int) limit;
+    }
+
+}
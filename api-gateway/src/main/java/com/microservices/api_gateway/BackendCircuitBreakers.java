@@ -0,0 +1,86 @@
+package com.microservices.api_gateway;
+
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackendCircuitBreakers {
+
+    private final EnvConfiguration envConfiguration;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public <T> CompletableFuture<T> execute(String backend, Supplier<CompletableFuture<T>> call) {
+        CircuitBreaker breaker = getBreaker(backend);
+
+        long now = System.currentTimeMillis();
+        if (!breaker.tryAcquire(now)) {
+            Counter.builder("gateway.circuit.rejected").tag("backend", backend).register(meterRegistry).increment();
+            return CompletableFuture.failedFuture(new BackendUnavailableException(
+                    "The circuit to " + backend + " is open, please retry later", breaker.getRetryAfterSeconds(now)));
+        }
+
+        CompletableFuture<T> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            breaker.onIgnored();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return response.whenComplete((result, error) -> {
+            CircuitBreaker.State previousState = breaker.getState();
+
+            if (isShed(error)) {
+                breaker.onIgnored();
+            } else if (error != null || result == null) {
+                breaker.onFailure(System.currentTimeMillis());
+            } else {
+                breaker.onSuccess(System.currentTimeMillis());
+            }
+
+            CircuitBreaker.State currentState = breaker.getState();
+            if (previousState != currentState) {
+                log.warn("Circuit breaker {} moved from {} to {}", backend, previousState, currentState);
+            }
+        });
+    }
+
+    private boolean isShed(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof BackendUnavailableException;
+    }
+
+    private CircuitBreaker getBreaker(String backend) {
+        return breakers.computeIfAbsent(backend, ignored -> {
+            CircuitBreaker breaker = new CircuitBreaker(
+                    envConfiguration.getCircuitBreakerFailureRateThreshold(),
+                    envConfiguration.getCircuitBreakerMinimumCalls(),
+                    envConfiguration.getCircuitBreakerWindowSeconds() * 1000L,
+                    envConfiguration.getCircuitBreakerOpenSeconds() * 1000L,
+                    envConfiguration.getCircuitBreakerHalfOpenProbes());
+
+            Gauge.builder("gateway.circuit.state", breaker, circuitBreaker -> circuitBreaker.getState().ordinal())
+                    .description("Circuit breaker state of a backend exchange: 0 closed, 1 half-open, 2 open")
+                    .tag("backend", backend)
+                    .register(meterRegistry);
+
+            return breaker;
+        });
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.microservices.api_gateway;
+
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackendConcurrencyLimiter {
+
+    private final EnvConfiguration envConfiguration;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+
+    public <T> CompletableFuture<T> execute(String backend, Supplier<CompletableFuture<T>> call) {
+        AdaptiveConcurrencyLimit limit = getLimit(backend);
+
+        int inFlight = limit.tryAcquire();
+        if (inFlight < 0) {
+            rejections.computeIfAbsent(backend, ignored -> new LongAdder()).increment();
+            return CompletableFuture.failedFuture(new BackendUnavailableException(
+                    "Too many pending requests to " + backend + ", please retry later", limit.getRetryAfterSeconds()));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<T> response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            limit.onIgnored();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return response.whenComplete((result, error) -> {
+            if (error != null || result == null) {
+                limit.onDropped();
+            } else {
+                limit.onSuccess(System.nanoTime() - start, inFlight);
+            }
+        });
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void logLimits() {
+        limits.forEach((backend, limit) -> {
+            long rejected = rejections.computeIfAbsent(backend, ignored -> new LongAdder()).sumThenReset();
+            log.info("Concurrency limit {} | limit {} | {} in flight | {} request(s) shed",
+                    backend, limit.getLimit(), limit.getInFlight(), rejected);
+        });
+    }
+
+    private AdaptiveConcurrencyLimit getLimit(String backend) {
+        return limits.computeIfAbsent(backend, ignored -> {
+            AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                    envConfiguration.getBackendInitialConcurrencyLimit(),
+                    envConfiguration.getBackendMinConcurrencyLimit(),
+                    envConfiguration.getBackendMaxConcurrencyLimit());
+
+            Gauge.builder("gateway.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .tag("backend", backend)
+                    .register(meterRegistry);
+            Gauge.builder("gateway.concurrency.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .tag("backend", backend)
+                    .register(meterRegistry);
+
+            return limit;
+        });
+    }
+
+}
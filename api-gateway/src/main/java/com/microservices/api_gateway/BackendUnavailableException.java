@@ -0,0 +1,15 @@
+package com.microservices.api_gateway;
+
+import lombok.Getter;
+
+@Getter
+public class BackendUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public BackendUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
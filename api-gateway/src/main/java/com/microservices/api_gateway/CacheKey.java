@@ -0,0 +1,23 @@
+package com.microservices.api_gateway;
+
+import static java.util.Objects.isNull;
+
+public final class CacheKey {
+
+    private CacheKey() {
+    }
+
+    public static String of(String... parts) {
+        StringBuilder key = new StringBuilder();
+        for (String part : parts) {
+            if (isNull(part)) {
+                key.append('-');
+            } else {
+                key.append(part.length()).append(':').append(part);
+            }
+            key.append('|');
+        }
+        return key.toString();
+    }
+
+}
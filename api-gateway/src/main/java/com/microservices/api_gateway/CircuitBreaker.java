@@ -0,0 +1,117 @@
+package com.microservices.api_gateway;
+
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long windowMillis;
+    private final long openMillis;
+    private final int halfOpenProbes;
+
+    private State state = State.CLOSED;
+    private long windowStart;
+    private int calls;
+    private int failures;
+    private long openUntil;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    public CircuitBreaker(double failureRateThreshold, int minimumCalls, long windowMillis, long openMillis, int halfOpenProbes) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.windowMillis = windowMillis;
+        this.openMillis = openMillis;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    public synchronized boolean tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now < openUntil) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN, now);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probesSucceeded >= halfOpenProbes) {
+                return false;
+            }
+            probesInFlight++;
+        }
+
+        return true;
+    }
+
+    public synchronized void onSuccess(long now) {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(probesInFlight - 1, 0);
+            if (++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED, now);
+            }
+            return;
+        }
+
+        record(false, now);
+    }
+
+    public synchronized void onFailure(long now) {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN, now);
+            return;
+        }
+
+        record(true, now);
+    }
+
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(probesInFlight - 1, 0);
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized long getRetryAfterSeconds(long now) {
+        return Math.max(1, (openUntil - now + 999) / 1000);
+    }
+
+    private void record(boolean failure, long now) {
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (now - windowStart >= windowMillis) {
+            windowStart = now;
+            calls = 0;
+            failures = 0;
+        }
+
+        calls++;
+        if (failure) {
+            failures++;
+        }
+
+        if (calls >= minimumCalls && (double) failures / calls >= failureRateThreshold) {
+            transitionTo(State.OPEN, now);
+        }
+    }
+
+    private void transitionTo(State newState, long now) {
+        state = newState;
+        windowStart = now;
+        calls = 0;
+        failures = 0;
+        probesInFlight = 0;
+        probesSucceeded = 0;
+        openUntil = newState == State.OPEN ? now + openMillis : 0;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.microservices.api_gateway;
+
+import com.microservices.api_gateway.services.EventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class Consumer {
+
+    private final EventService eventService;
+
+    @RabbitListener(
+            bindings = @QueueBinding(
+                    value = @Queue(autoDelete = "true", exclusive = "true"),
+                    exchange = @Exchange(value = "event-changed-exchange", type = ExchangeTypes.FANOUT)
+            )
+    )
+    public void handleEventChanged(String eventId) {
+        eventService.evictEvent(eventId);
+    }
+}
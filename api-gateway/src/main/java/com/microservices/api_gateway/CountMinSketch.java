@@ -0,0 +1,77 @@
+package com.microservices.api_gateway;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public final class CountMinSketch {
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicIntegerArray[] rows;
+    private final int mask;
+    private final long firstSeed;
+    private final long secondSeed;
+
+    public CountMinSketch(int depth, int width) {
+        if (Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Count-min sketch width must be a power of two");
+        }
+
+        SecureRandom random = new SecureRandom();
+        this.rows = new AtomicIntegerArray[depth];
+        for (int row = 0; row < depth; row++) {
+            rows[row] = new AtomicIntegerArray(width);
+        }
+        this.mask = width - 1;
+        this.firstSeed = random.nextLong();
+        this.secondSeed = random.nextLong();
+    }
+
+    public int addAndEstimate(String key, int count) {
+        long firstHash = hash(key, firstSeed);
+        long secondHash = hash(key, secondSeed) | 1;
+
+        int updated = saturatedAdd(minimum(firstHash, secondHash), count);
+        for (int row = 0; row < rows.length; row++) {
+            rows[row].accumulateAndGet(index(firstHash, secondHash, row), updated, Math::max);
+        }
+
+        return updated;
+    }
+
+    public int estimate(String key) {
+        return minimum(hash(key, firstSeed), hash(key, secondSeed) | 1);
+    }
+
+    private int minimum(long firstHash, long secondHash) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < rows.length; row++) {
+            estimate = Math.min(estimate, rows[row].get(index(firstHash, secondHash, row)));
+        }
+
+        return estimate;
+    }
+
+    private int index(long firstHash, long secondHash, int row) {
+        return (int) ((firstHash + row * secondHash) & mask);
+    }
+
+    private long hash(String key, long seed) {
+        long hash = seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private int saturatedAdd(int value, int count) {
+        long sum = (long) value + count;
+        return sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+    }
+
+}
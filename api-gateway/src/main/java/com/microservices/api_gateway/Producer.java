@@ -1,31 +1,99 @@
 package com.microservices.api_gateway;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.api_gateway.configurations.EnvConfiguration;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.AsyncRabbitTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
+
 @Service
 @RequiredArgsConstructor
 public class Producer {
 
-    private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private static final String STATUS_HEADER = "rpc-status";
+    private static final String BODY_KIND_HEADER = "rpc-body-kind";
+    private static final String JSON_BODY_KIND = "json";
+
+    private final AsyncRabbitTemplate asyncRabbitTemplate;
+    private final EnvConfiguration envConfiguration;
+    private final MessageCodec messageCodec;
+    private final BackendConcurrencyLimiter backendConcurrencyLimiter;
+    private final BackendCircuitBreakers backendCircuitBreakers;
+    private final RpcTimeouts rpcTimeouts;
 
-    public <T, R> R sendAndReceive(String exchange, String routingKey, T request, Class<R> responseType) {
+    public <T> CompletableFuture<Map<String, String>> sendAndReceive(String exchange, String routingKey, T request) {
+        return send(exchange, routingKey, request).thenApply(reply -> isNull(reply) ? null : readText(reply));
+    }
+
+    public <T> CompletableFuture<RpcReply> send(String exchange, String routingKey, T request) {
+        Message requestMessage;
         try {
-            String requestJson = objectMapper.writeValueAsString(request);
+            String contentType = messageCodec.negotiate(envConfiguration.getRpcContentType());
+            requestMessage = MessageBuilder.withBody(messageCodec.encode(request, contentType))
+                    .setContentType(contentType)
+                    .setContentEncoding(StandardCharsets.UTF_8.name())
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new RuntimeException("Communication error: " + e.getMessage(), e));
+        }
+
+        return backendCircuitBreakers.execute(exchange, () ->
+                        backendConcurrencyLimiter.execute(exchange, () -> sendWithTimeout(exchange, routingKey, requestMessage)))
+                .thenApply(response -> isNull(response) ? null : readReply(response));
+    }
 
-            Object response = rabbitTemplate.convertSendAndReceive(exchange, routingKey, requestJson);
+    private CompletableFuture<Message> sendWithTimeout(String exchange, String routingKey, Message requestMessage) {
+        long timeoutMillis = rpcTimeouts.getTimeoutMillis(routingKey);
+        CompletableFuture<Message> reply = asyncRabbitTemplate.sendAndReceive(exchange, routingKey, requestMessage);
 
-            if (response instanceof String) {
-                return objectMapper.readValue((String) response, responseType);
-            } else {
-                return objectMapper.convertValue(response, responseType);
+        CompletableFuture<Message> timedReply = reply.copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+        timedReply.whenComplete((response, error) -> {
+            if (unwrap(error) instanceof TimeoutException) {
+                reply.cancel(true);
             }
+        });
 
-        } catch (Exception e) {
-            throw new RuntimeException("Communication error: " + e.getMessage(), e);
+        return timedReply;
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private RpcReply readReply(Message response) {
+        MessageProperties properties = response.getMessageProperties();
+        Object status = properties.getHeader(STATUS_HEADER);
+        Object bodyKind = properties.getHeader(BODY_KIND_HEADER);
+        if (isNull(status) || isNull(bodyKind)) {
+            throw new IllegalStateException("Missing " + STATUS_HEADER + " or " + BODY_KIND_HEADER + " header in RPC response");
         }
+
+        return new RpcReply(status.toString(), JSON_BODY_KIND.equals(bodyKind.toString()), properties.getContentType(), response.getBody());
     }
-}
\ No newline at end of file
+
+    private Map<String, String> readText(RpcReply reply) {
+        if (reply.json()) {
+            throw new IllegalStateException("Unexpected " + JSON_BODY_KIND + " body in " + reply.status() + " RPC response");
+        }
+
+        try {
+            return singletonMap(reply.status(), messageCodec.decodeText(reply.body(), reply.contentType()));
+        } catch (IOException e) {
+            throw new CompletionException("Communication error: " + e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.microservices.api_gateway;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class RouteMatcher<T> {
+
+    private final Node<T> root = new Node<>();
+
+    public RouteMatcher<T> add(String method, String pattern, T value) {
+        Node<T> node = root;
+        for (String segment : segments(pattern)) {
+            node = isVariable(segment)
+                    ? node.variableChild()
+                    : node.children.computeIfAbsent(segment, ignored -> new Node<>());
+        }
+
+        node.values.put(method, value);
+        return this;
+    }
+
+    public T match(String method, String path, T fallback) {
+        T value = match(root, segments(path), 0, method);
+        return value == null ? fallback : value;
+    }
+
+    private T match(Node<T> node, String[] segments, int index, String method) {
+        if (node == null) {
+            return null;
+        }
+
+        if (index == segments.length) {
+            return node.values.get(method);
+        }
+
+        T exact = match(node.children.get(segments[index]), segments, index + 1, method);
+        return exact != null ? exact : match(node.variable, segments, index + 1, method);
+    }
+
+    private String[] segments(String path) {
+        String trimmed = path.startsWith("/") ? path.substring(1) : path;
+        if (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/");
+    }
+
+    private boolean isVariable(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static final class Node<T> {
+
+        private final Map<String, Node<T>> children = new HashMap<>();
+        private final Map<String, T> values = new HashMap<>();
+        private Node<T> variable;
+
+        private Node<T> variableChild() {
+            if (variable == null) {
+                variable = new Node<>();
+            }
+            return variable;
+        }
+
+    }
+
+}
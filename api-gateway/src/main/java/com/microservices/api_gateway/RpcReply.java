@@ -0,0 +1,4 @@
+package com.microservices.api_gateway;
+
+public record RpcReply(String status, boolean json, String contentType, byte[] body) {
+}
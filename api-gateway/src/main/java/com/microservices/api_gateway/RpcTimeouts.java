@@ -0,0 +1,24 @@
+package com.microservices.api_gateway;
+
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RpcTimeouts {
+
+    private final EnvConfiguration envConfiguration;
+
+    public long getTimeoutMillis(String routingKey) {
+        Long timeout = envConfiguration.getRpcRoutingKeyTimeoutMillis().get(routingKey);
+        if (timeout != null) {
+            return timeout;
+        }
+
+        int separator = routingKey.indexOf('.');
+        timeout = separator < 0 ? null : envConfiguration.getRpcServiceTimeoutMillis().get(routingKey.substring(0, separator));
+        return timeout != null ? timeout : envConfiguration.getRpcDefaultTimeoutMillis();
+    }
+
+}
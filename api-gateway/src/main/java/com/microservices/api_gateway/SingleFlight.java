@@ -0,0 +1,65 @@
+package com.microservices.api_gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, FlightStats> stats = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String name, String key, Supplier<CompletableFuture<T>> call) {
+        FlightStats flightStats = getStats(name);
+        String flightKey = CacheKey.of(name, key);
+
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            flightStats.collapsed().increment();
+            return existing.copy();
+        }
+
+        flightStats.executed().increment();
+        try {
+            call.get().whenComplete((result, error) -> {
+                inFlight.remove(flightKey, flight);
+                if (error != null) {
+                    flight.completeExceptionally(error);
+                } else {
+                    flight.complete(result);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(flightKey, flight);
+            flight.completeExceptionally(e);
+        }
+
+        return flight.copy();
+    }
+
+    private FlightStats getStats(String name) {
+        return stats.computeIfAbsent(name, ignored -> new FlightStats(
+                Counter.builder("gateway.single-flight.backend-calls")
+                        .tag("operation", name)
+                        .register(meterRegistry),
+                Counter.builder("gateway.single-flight.collapsed")
+                        .tag("operation", name)
+                        .register(meterRegistry)));
+    }
+
+    private record FlightStats(Counter executed, Counter collapsed) {
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.microservices.api_gateway;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerMilli;
+    private final long blockMillis;
+
+    private final AtomicReference<State> state;
+    private final AtomicLong unsyncedConsumption = new AtomicLong();
+
+    private long syncedWindow;
+    private long syncedClusterTotal;
+
+    public TokenBucket(double capacity, double initialTokens, long refillPeriodMillis, long blockMillis, long now) {
+        this.capacity = capacity;
+        this.refillPerMilli = capacity / refillPeriodMillis;
+        this.blockMillis = blockMillis;
+        this.state = new AtomicReference<>(new State(Math.min(initialTokens, capacity), now, 0));
+    }
+
+    public boolean tryConsume(int cost, long now) {
+        while (true) {
+            State current = state.get();
+            if (now < current.blockedUntil()) {
+                return false;
+            }
+
+            double available = refill(current, now);
+            boolean allowed = available >= cost;
+            State next = allowed
+                    ? new State(available - cost, now, 0)
+                    : new State(available, now, blockMillis > 0 && available < 1 ? now + blockMillis : 0);
+
+            if (state.compareAndSet(current, next)) {
+                if (allowed) {
+                    unsyncedConsumption.addAndGet(cost);
+                }
+                return allowed;
+            }
+        }
+    }
+
+    public void debit(long amount, long now) {
+        if (amount <= 0) {
+            return;
+        }
+
+        while (true) {
+            State current = state.get();
+            State next = new State(Math.max(refill(current, now) - amount, -capacity), now, current.blockedUntil());
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    public long retryAfterMillis(int cost, long now) {
+        State current = state.get();
+        if (now < current.blockedUntil()) {
+            return current.blockedUntil() - now;
+        }
+
+        double missing = cost - refill(current, now);
+        return missing <= 0 ? 0 : (long) Math.ceil(missing / refillPerMilli);
+    }
+
+    public boolean isIdle(long now) {
+        State current = state.get();
+        return now >= current.blockedUntil() && refill(current, now) >= capacity && unsyncedConsumption.get() == 0;
+    }
+
+    public long drainUnsyncedConsumption() {
+        return unsyncedConsumption.getAndSet(0);
+    }
+
+    public long applyClusterTotal(long window, long clusterTotal, long localConsumption) {
+        long previousTotal = window == syncedWindow ? syncedClusterTotal : 0;
+        syncedWindow = window;
+        syncedClusterTotal = clusterTotal;
+        return Math.max(clusterTotal - previousTotal - localConsumption, 0);
+    }
+
+    private double refill(State current, long now) {
+        long elapsed = Math.max(now - current.refilledAt(), 0);
+        return Math.min(capacity, current.tokens() + elapsed * refillPerMilli);
+    }
+
+    private record State(double tokens, long refilledAt, long blockedUntil) {
+    }
+
+}
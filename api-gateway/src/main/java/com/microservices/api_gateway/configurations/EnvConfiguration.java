@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @Component
@@ -18,4 +21,34 @@ public class EnvConfiguration {
     private String mongoUri;
     private String databaseName;
     private String jwtSecretKey;
+    private String rpcContentType;
+    private long responseCacheMaximumSize;
+    private int responseCacheTtlSeconds;
+    private int responseCacheStaleWhileRevalidateSeconds;
+    private long responseCacheSharedReadTimeoutMillis;
+    private int responseCacheSharedPoolSize;
+    private int responseCacheSharedQueueCapacity;
+    private boolean userCacheEnabled;
+    private long userCacheMaximumSize;
+    private int userCacheTtlSeconds;
+    private int rateLimitCapacity;
+    private int rateLimitRefillPeriodSeconds;
+    private int rateLimitBlockSeconds;
+    private String rateLimitStore;
+    private long rateLimitSyncIntervalMillis;
+    private int rateLimitUserCapacity;
+    private int rateLimitPrivilegedCapacity;
+    private long rateLimitMaxTrackedClients;
+    private int rateLimitSketchWidth;
+    private int backendInitialConcurrencyLimit;
+    private int backendMinConcurrencyLimit;
+    private int backendMaxConcurrencyLimit;
+    private long rpcDefaultTimeoutMillis;
+    private Map<String, Long> rpcRoutingKeyTimeoutMillis = new HashMap<>();
+    private Map<String, Long> rpcServiceTimeoutMillis = new HashMap<>();
+    private double circuitBreakerFailureRateThreshold;
+    private int circuitBreakerMinimumCalls;
+    private int circuitBreakerWindowSeconds;
+    private int circuitBreakerOpenSeconds;
+    private int circuitBreakerHalfOpenProbes;
 }
\ No newline at end of file
@@ -1,8 +1,9 @@
 package com.microservices.api_gateway.configurations;
 
-import com.microservices.api_gateway.dao.UserDao;
 import com.microservices.api_gateway.models.User;
+import com.microservices.api_gateway.services.AuthenticatedUserService;
 import com.microservices.api_gateway.services.JwtTokenService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,7 +28,7 @@ import java.util.Optional;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenService jwtTokenService;
-    private final UserDao userDao;
+    private final AuthenticatedUserService authenticatedUserService;
 
     @Override
     protected void doFilterInternal(@NotNull HttpServletRequest request,
@@ -49,12 +50,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     private Authentication getUserInformations(HttpServletRequest request) {
-        String userId = jwtTokenService.resolveUserIdFromRequest(request);
-        if (Objects.isNull(userId)) {
+        Claims claims = jwtTokenService.resolveAccessClaimsFromRequest(request);
+        if (Objects.isNull(claims)) {
             return null;
         }
 
-        Optional<User> optionalUser = userDao.findById(userId);
+        Optional<User> optionalUser = authenticatedUserService.resolvePrincipal(claims);
 
         return optionalUser.map(this::buildAuthentication).orElse(null);
     }
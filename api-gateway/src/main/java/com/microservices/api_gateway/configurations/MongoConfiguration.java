@@ -6,8 +6,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.time.Duration;
 
 @Configuration
 @Profile("!test")
@@ -23,7 +28,17 @@ public class MongoConfiguration {
 
     @Bean
     public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        MongoTemplate mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        ensureIndexes(mongoTemplate);
+        return mongoTemplate;
+    }
+
+    private void ensureIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations responseCacheIndexes = mongoTemplate.indexOps("RESPONSE_CACHE");
+        responseCacheIndexes.ensureIndex(new Index().on("expiresAt", Sort.Direction.ASC).named("expiresAt").expire(Duration.ZERO));
+
+        IndexOperations rateLimitIndexes = mongoTemplate.indexOps("RATE_LIMITS");
+        rateLimitIndexes.ensureIndex(new Index().on("expiresAt", Sort.Direction.ASC).named("expiresAt").expire(Duration.ZERO));
     }
 
 }
\ No newline at end of file
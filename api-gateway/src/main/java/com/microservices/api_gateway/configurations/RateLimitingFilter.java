@@ -1,5 +1,8 @@
 package com.microservices.api_gateway.configurations;
 
+import com.microservices.api_gateway.models.User;
+import com.microservices.api_gateway.models.enums.RateLimitTier;
+import com.microservices.api_gateway.services.RateLimitPolicyService;
 import com.microservices.api_gateway.services.RateLimitingService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,45 +10,58 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+import static java.util.Objects.isNull;
+
 @Component
 @RequiredArgsConstructor
 @EnableScheduling
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private final RateLimitingService rateLimitingService;
+    private final RateLimitPolicyService rateLimitPolicyService;
 
 
     @Override
     protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull FilterChain filterChain)
             throws ServletException, IOException {
-        String ipAddress = getClientIP(request);
-
-        if (rateLimitingService.isIpBlocked(ipAddress)) {
-            rejectRequest(response);
-            return;
-        }
+        User authenticatedUser = getAuthenticatedUser();
+        RateLimitTier tier = rateLimitPolicyService.resolveTier(authenticatedUser);
+        String identity = isNull(authenticatedUser) ? getClientIP(request) : authenticatedUser.getId();
+        int cost = rateLimitPolicyService.getCost(request.getMethod(), request.getRequestURI());
 
-        if (rateLimitingService.incrementAndCheckLimit(ipAddress)) {
-            rateLimitingService.blockIpAddress(ipAddress);
-            rejectRequest(response);
+        if (!rateLimitingService.tryAcquire(tier, identity, cost)) {
+            rejectRequest(response, rateLimitingService.getRetryAfterSeconds(tier, identity, cost));
             return;
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void rejectRequest(HttpServletResponse response) throws IOException {
+    private void rejectRequest(HttpServletResponse response, long retryAfterSeconds) throws IOException {
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
         response.getWriter().write("Too many requests. Please try again later.");
     }
 
+    private User getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (isNull(authentication) || !(authentication.getPrincipal() instanceof User user)) {
+            return null;
+        }
+
+        return user;
+    }
+
     private String getClientIP(HttpServletRequest request) {
         String xfHeader = request.getHeader("X-Forwarded-For");
         if (xfHeader == null) {
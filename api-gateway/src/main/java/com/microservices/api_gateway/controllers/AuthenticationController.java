@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api")
@@ -131,7 +132,7 @@ public class AuthenticationController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> login(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> login(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Login credentials",
@@ -253,7 +254,7 @@ public class AuthenticationController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> register(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> register(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Registration details",
@@ -354,7 +355,7 @@ public class AuthenticationController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> validateEmail(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> validateEmail(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Email validation token",
@@ -377,7 +378,7 @@ public class AuthenticationController {
 
     @PostMapping("/private/auth/validate-phone")
     @Operation(tags = {"Authentication"}, summary = "Valider le numéro de téléphone")
-    public ResponseEntity<Map<String, String>> validatePhone(@RequestBody ValidatePhoneRequest request) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> validatePhone(@RequestBody ValidatePhoneRequest request) {
         return authenticationService.validatePhone(request);
     }
 
@@ -461,7 +462,7 @@ public class AuthenticationController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> resendEmailValidation(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> resendEmailValidation(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Email address for resending validation",
@@ -484,7 +485,7 @@ public class AuthenticationController {
 
     @PostMapping("/private/auth/send-phone-code")
     @Operation(tags = {"Authentication"}, summary = "Envoyer un code pour valider le numéro de téléphone")
-    public ResponseEntity<Map<String, String>> sendPhoneValidationCode() {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> sendPhoneValidationCode() {
         return authenticationService.sendPhoneValidationCode();
     }
 
@@ -1,12 +1,12 @@
 package com.microservices.api_gateway.controllers;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.microservices.api_gateway.models.User;
 import com.microservices.api_gateway.models.dto.request.event.CreateEventRequest;
 import com.microservices.api_gateway.models.dto.request.event.GetAllEventsRequestBody;
 import com.microservices.api_gateway.models.dto.request.event.UpdateEventRequest;
 import com.microservices.api_gateway.models.dto.response.event.GetAllEventsResponse;
 import com.microservices.api_gateway.models.dto.response.event.GetEventByIdResponse;
+import com.microservices.api_gateway.models.dto.response.event.GetEventSuggestionsResponse;
 import com.microservices.api_gateway.services.EventService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,12 +17,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api")
@@ -75,6 +77,10 @@ public class EventController {
                             }
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified - The If-None-Match ETag still matches the current listing"
+            ),
             @ApiResponse(
                     responseCode = "400",
                     description = "Bad request - Invalid parameters",
@@ -126,7 +132,7 @@ public class EventController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetAllEventsResponse>> getAllEvents(
+    public CompletableFuture<ResponseEntity<byte[]>> getAllEvents(
             @Parameter(
                     description = "Page number (zero-based index)",
                     example = "0"
@@ -139,6 +145,12 @@ public class EventController {
             )
             @RequestParam(defaultValue = "10") int pageSize,
 
+            @Parameter(
+                    description = "Opaque cursor returned as nextCursor by the previous page. Send an empty value to start cursor pagination, omit it to use page numbers",
+                    example = ""
+            )
+            @RequestParam(required = false) String cursor,
+
             @RequestBody(required = false)
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Filter criteria for events",
@@ -159,11 +171,78 @@ public class EventController {
                             }
                     )
             )
-            GetAllEventsRequestBody requestBody
-    ) throws JsonProcessingException {
+            GetAllEventsRequestBody requestBody,
+
+            @Parameter(
+                    description = "ETag of a previously received listing. A 304 is returned when it is still current"
+            )
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         String filter = requestBody != null ? requestBody.getFilter() : null;
         String filterSearch = requestBody != null ? requestBody.getFilterSearch() : null;
-        return eventService.getAllEvents(page, pageSize, filter, filterSearch);
+        return eventService.getAllEvents(page, pageSize, filter, filterSearch, cursor, ifNoneMatch);
+    }
+
+    @GetMapping("/events/suggestions")
+    @Operation(
+            tags = {"Event"},
+            summary = "Suggest events while typing",
+            description = "Returns the first events whose name, artist or place starts with the typed text. " +
+                    "Matching ignores case and accents."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Suggestions found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(type = "object"),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "suggestionsResponse",
+                                            summary = "Suggestions",
+                                            value = "{\"suggestions\": {\"suggestions\": [{\"id\":\"12345\",\"name\":\"Solidays\",\"address\":\"Paris\",\"artists\":[\"Daft Punk\"],\"startTime\":\"2025-06-27T18:00:00\"}]}}"
+                                    )
+                            }
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid query, filter or limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = GetEventSuggestionsResponse.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "emptyQuery",
+                                            summary = "Empty query",
+                                            value = "{\"BAD_REQUEST\": {\"error\":\"Search query must not be empty\"}}"
+                                    )
+                            }
+                    )
+            )
+    })
+    public CompletableFuture<ResponseEntity<byte[]>> getEventSuggestions(
+            @Parameter(
+                    description = "Beginning of the name, artist or place to search for",
+                    required = true,
+                    example = "sol"
+            )
+            @RequestParam String query,
+
+            @Parameter(
+                    description = "Field to search: EVENT (default), CONCERT, FESTIVAL, ARTIST or PLACE",
+                    example = "EVENT"
+            )
+            @RequestParam(required = false) String filter,
+
+            @Parameter(
+                    description = "Maximum number of suggestions, up to 20",
+                    example = "5"
+            )
+            @RequestParam(defaultValue = "5") int limit
+    ) {
+        return eventService.getEventSuggestions(query, filter, limit);
     }
 
     @GetMapping("/events/{id}")
@@ -190,6 +269,10 @@ public class EventController {
                             }
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified - The If-None-Match ETag still matches the current event"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Event not found",
@@ -236,16 +319,21 @@ public class EventController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetEventByIdResponse>> getEventById(
+    public CompletableFuture<ResponseEntity<byte[]>> getEventById(
             @Parameter(
                     description = "ID of the event to retrieve",
                     required = true,
                     example = "12345",
                     schema = @Schema(type = "string")
             )
-            @PathVariable("id") String eventId
-    ) throws JsonProcessingException {
-        return eventService.getEventById(eventId);
+            @PathVariable("id") String eventId,
+
+            @Parameter(
+                    description = "ETag of a previously received event. A 304 is returned when it is still current"
+            )
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return eventService.getEventById(eventId, ifNoneMatch);
     }
 
     @PostMapping("/private/artist/event")
@@ -380,7 +468,7 @@ public class EventController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> createEvent(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> createEvent(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Event creation details",
@@ -540,7 +628,7 @@ public class EventController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> updateEvent(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateEvent(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Event update details",
@@ -661,7 +749,7 @@ public class EventController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> deleteEvent(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> deleteEvent(
             @Parameter(
                     description = "ID of the event to delete",
                     required = true,
@@ -1,6 +1,5 @@
 package com.microservices.api_gateway.controllers;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.microservices.api_gateway.models.User;
 import com.microservices.api_gateway.models.dto.request.notification.GetUserNotificationsRequest;
 import com.microservices.api_gateway.models.dto.request.notification.SendNotificationRequest;
@@ -23,6 +22,7 @@ import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/private")
@@ -137,7 +137,7 @@ public class NotificationController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetUserNotificationsResponse>> getUserNotifications(
+    public CompletableFuture<ResponseEntity<byte[]>> getUserNotifications(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "User ID for notifications retrieval",
@@ -154,7 +154,7 @@ public class NotificationController {
                     )
             )
             GetUserNotificationsRequest request
-    ) throws JsonProcessingException {
+    ) {
         return notificationService.getUserNotifications(request);
     }
 
@@ -234,10 +234,10 @@ public class NotificationController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetCurrentUserNotificationsResponse>> getCurrentUserNotifications(
+    public CompletableFuture<ResponseEntity<byte[]>> getCurrentUserNotifications(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser
-    ) throws JsonProcessingException {
+    ) {
         return notificationService.getCurrentUserNotifications(authenticatedUser);
     }
 
@@ -332,7 +332,7 @@ public class NotificationController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> updateNotificationPreferences(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateNotificationPreferences(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Notification preferences",
@@ -473,7 +473,7 @@ public class NotificationController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> sendNotification(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> sendNotification(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "Notification details",
@@ -21,6 +21,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/private/payment")
@@ -130,7 +131,7 @@ public class PaymentController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> payWithCard(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> payWithCard(
             @AuthenticationPrincipal User authenticatedUser,
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -145,7 +146,6 @@ public class PaymentController {
                                             value = """
                                                     {
                                                       "userId": "12345",
-                                                      "eventId": "67890",
                                                       "ticketsIds": ["ticket1", "ticket2"],
                                                       "amount": 150.00,
                                                       "cardNumber": "4111111111111111",
@@ -263,7 +263,7 @@ public class PaymentController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> payWithPayPal(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> payWithPayPal(
             @AuthenticationPrincipal User authenticatedUser,
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -278,7 +278,6 @@ public class PaymentController {
                                             value = """
                                                     {
                                                       "userId": "12345",
-                                                      "eventId": "67890",
                                                       "ticketsIds": ["ticket1", "ticket2"],
                                                       "amount": 150.00,
                                                       "paypalEmail": "user@example.com",
@@ -1,6 +1,5 @@
 package com.microservices.api_gateway.controllers;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.microservices.api_gateway.models.User;
 import com.microservices.api_gateway.models.dto.request.ticket.CreateTicketsRequest;
 import com.microservices.api_gateway.models.dto.response.ticket.GetCurrentUserTicketsResponse;
@@ -20,6 +19,7 @@ import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api")
@@ -104,7 +104,7 @@ public class TicketController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetCurrentUserTicketsResponse>> getUserTickets(
+    public CompletableFuture<ResponseEntity<byte[]>> getUserTickets(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser
     ) {
@@ -217,7 +217,7 @@ public class TicketController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> cancelTicket(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> cancelTicket(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser,
 
@@ -323,7 +323,7 @@ public class TicketController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> validateTicket(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> validateTicket(
             @Parameter(
                     description = "ID of the ticket to validate",
                     required = true,
@@ -355,7 +355,7 @@ public class TicketController {
                                     @ExampleObject(
                                             name = "successResponse",
                                             summary = "Success response",
-                                            value = "{\"message\": \"Tickets created successfully\"}"
+                                            value = "{\"message\": {\"message\":\"2 ticket(s) held successfully, complete the payment before 2025-03-20T15:40:00\",\"ticketIds\":[\"ticket1\",\"ticket2\"],\"holdExpiresAt\":\"2025-03-20T15:40:00\"}}"
                                     )
                             }
                     )
@@ -370,17 +370,17 @@ public class TicketController {
                                     @ExampleObject(
                                             name = "invalidTicketData",
                                             summary = "Invalid ticket data",
-                                            value = "{\"BAD_REQUEST\": \"Event not found for the specified ID\"}"
+                                            value = "{\"BAD_REQUEST\": {\"error\":\"Ticket 1: Event not found for the specified ID\"}}"
                                     ),
                                     @ExampleObject(
                                             name = "invalidCategory",
                                             summary = "Invalid ticket category",
-                                            value = "{\"BAD_REQUEST\": \"Invalid ticket category\"}"
+                                            value = "{\"BAD_REQUEST\": {\"error\":\"Ticket 1: Invalid ticket category\"}}"
                                     ),
                                     @ExampleObject(
                                             name = "multipleErrors",
                                             summary = "Multiple validation errors",
-                                            value = "{\"BAD_REQUEST\": \"Event not found for the specified ID, Invalid ticket category\"}"
+                                            value = "{\"BAD_REQUEST\": {\"error\":\"Ticket 1: Event not found for the specified ID | Ticket 2: Invalid ticket category\"}}"
                                     )
                             }
                     )
@@ -421,7 +421,7 @@ public class TicketController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> createTickets(
+    public CompletableFuture<ResponseEntity<byte[]>> createTickets(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser,
 
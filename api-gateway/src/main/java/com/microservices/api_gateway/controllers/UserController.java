@@ -1,10 +1,7 @@
 package com.microservices.api_gateway.controllers;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.microservices.api_gateway.models.User;
 import com.microservices.api_gateway.models.dto.request.user.*;
-import com.microservices.api_gateway.models.dto.response.user.GetCurrentUserInfoResponse;
-import com.microservices.api_gateway.models.dto.response.user.GetUserByIdResponse;
 import com.microservices.api_gateway.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +18,7 @@ import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api")
@@ -90,10 +88,10 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetCurrentUserInfoResponse>> getCurrentUser(
+    public CompletableFuture<ResponseEntity<byte[]>> getCurrentUser(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser
-    ) throws JsonProcessingException {
+    ) {
         return userService.getCurrentUserInfo(authenticatedUser);
     }
 
@@ -158,7 +156,7 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> deleteAccount(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> deleteAccount(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser
     ) {
@@ -252,7 +250,7 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> updateUsername(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateUsername(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser,
 
@@ -363,7 +361,7 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> updateEmail(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateEmail(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser,
 
@@ -468,7 +466,7 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> updatePhone(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updatePhone(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser,
 
@@ -584,7 +582,7 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> updatePassword(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updatePassword(
             @Parameter(hidden = true)
             @AuthenticationPrincipal User authenticatedUser,
 
@@ -708,7 +706,7 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, GetUserByIdResponse>> getUserById(
+    public CompletableFuture<ResponseEntity<byte[]>> getUserById(
             @Parameter(
                     description = "ID of the user to retrieve",
                     required = true,
@@ -716,7 +714,7 @@ public class UserController {
                     schema = @Schema(type = "string")
             )
             @PathVariable("id") String userId
-    ) throws JsonProcessingException {
+    ) {
         return userService.getUserById(userId);
     }
 
@@ -877,7 +875,7 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> updateUser(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateUser(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "User update details",
@@ -1037,7 +1035,7 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<Map<String, String>> createUser(
+    public CompletableFuture<ResponseEntity<Map<String, String>>> createUser(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "User creation details",
@@ -0,0 +1,31 @@
+package com.microservices.api_gateway.dao;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(prefix = "booking.properties", name = "rate-limit-store", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitStore implements RateLimitStore {
+
+    private final ConcurrentNavigableMap<Long, Map<String, AtomicLong>> windows = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Map<String, Long> addAndGetTotals(long window, Map<String, Long> consumption) {
+        windows.headMap(window).clear();
+        Map<String, AtomicLong> totals = windows.computeIfAbsent(window, ignored -> new ConcurrentHashMap<>());
+
+        Map<String, Long> result = new HashMap<>();
+        consumption.forEach((key, amount) ->
+                result.put(key, totals.computeIfAbsent(key, ignored -> new AtomicLong()).addAndGet(amount)));
+
+        return result;
+    }
+
+}
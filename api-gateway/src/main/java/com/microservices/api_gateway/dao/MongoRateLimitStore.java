@@ -0,0 +1,57 @@
+package com.microservices.api_gateway.dao;
+
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import com.microservices.api_gateway.models.RateLimitWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "booking.properties", name = "rate-limit-store", havingValue = "mongo")
+public class MongoRateLimitStore implements RateLimitStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final EnvConfiguration envConfiguration;
+
+    private static final String RATE_LIMIT_COLLECTION = "RATE_LIMITS";
+
+    @Override
+    public Map<String, Long> addAndGetTotals(long window, Map<String, Long> consumption) {
+        Map<String, String> keysById = new HashMap<>();
+        consumption.keySet().forEach(key -> keysById.put(window + "|" + key, key));
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(2L * envConfiguration.getRateLimitRefillPeriodSeconds());
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RATE_LIMIT_COLLECTION);
+        boolean hasUpdates = false;
+
+        for (Map.Entry<String, String> entry : keysById.entrySet()) {
+            long amount = consumption.get(entry.getValue());
+            if (amount > 0) {
+                bulkOperations.upsert(new Query(Criteria.where("_id").is(entry.getKey())),
+                        new Update().inc("count", amount).setOnInsert("expiresAt", expiresAt));
+                hasUpdates = true;
+            }
+        }
+
+        if (hasUpdates) {
+            bulkOperations.execute();
+        }
+
+        Map<String, Long> totals = new HashMap<>();
+        mongoTemplate.find(new Query(Criteria.where("_id").in(keysById.keySet())), RateLimitWindow.class, RATE_LIMIT_COLLECTION)
+                .forEach(rateLimitWindow -> totals.put(keysById.get(rateLimitWindow.getId()), rateLimitWindow.getCount()));
+
+        return totals;
+    }
+
+}
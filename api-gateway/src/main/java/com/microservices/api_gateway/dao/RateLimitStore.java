@@ -0,0 +1,9 @@
+package com.microservices.api_gateway.dao;
+
+import java.util.Map;
+
+public interface RateLimitStore {
+
+    Map<String, Long> addAndGetTotals(long window, Map<String, Long> consumption);
+
+}
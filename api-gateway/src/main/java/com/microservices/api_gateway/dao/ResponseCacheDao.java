@@ -0,0 +1,39 @@
+package com.microservices.api_gateway.dao;
+
+import com.microservices.api_gateway.models.CachedResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheDao {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final String RESPONSE_CACHE_COLLECTION = "RESPONSE_CACHE";
+
+    public Optional<CachedResponse> findFreshById(String key, LocalDateTime now) {
+        Query query = new Query(Criteria.where("_id").is(key).and("expiresAt").gt(now));
+        return Optional.ofNullable(mongoTemplate.findOne(query, CachedResponse.class, RESPONSE_CACHE_COLLECTION));
+    }
+
+    public void save(CachedResponse cachedResponse) {
+        mongoTemplate.save(cachedResponse, RESPONSE_CACHE_COLLECTION);
+    }
+
+    public void deleteById(String key) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(key)), RESPONSE_CACHE_COLLECTION);
+    }
+
+    public void deleteByIdPrefix(String keyPrefix) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").regex("^" + Pattern.quote(keyPrefix))), RESPONSE_CACHE_COLLECTION);
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.microservices.api_gateway.models;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+public class CachedResponse {
+
+    @Id
+    private String id;
+    private String etag;
+    private String body;
+    private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,20 @@
+package com.microservices.api_gateway.models;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+public class RateLimitWindow {
+
+    @Id
+    private String id;
+    private long count;
+    private LocalDateTime expiresAt;
+
+}
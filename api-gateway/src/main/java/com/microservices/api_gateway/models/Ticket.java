@@ -24,6 +24,7 @@ public class Ticket {
     @Builder.Default
     private TicketStatus status = TicketStatus.VALID;
 
+    private LocalDateTime holdExpiresAt;
     private LocalDateTime scanTime;
     private String qrCodeData;
 }
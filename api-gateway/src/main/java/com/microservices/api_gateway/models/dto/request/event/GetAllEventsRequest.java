@@ -14,4 +14,5 @@ public class GetAllEventsRequest {
     private int pageSize;
     private String filter;
     private String filterSearch;
+    private String cursor;
 }
@@ -14,7 +14,6 @@ import java.util.List;
 public class PayWithCardRequest {
 
     private String userId;
-    private String eventId;
     private List<String> ticketsIds;
     private double amount;
 
@@ -4,6 +4,7 @@ import com.microservices.api_gateway.models.Event;
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -16,4 +17,7 @@ public class GetAllEventsResponse {
     private String error;
     private long eventsFound;
     private int totalPages;
+    private Map<String, Long> eventTypeCounts;
+    private Map<String, Long> artistCounts;
+    private String nextCursor;
 }
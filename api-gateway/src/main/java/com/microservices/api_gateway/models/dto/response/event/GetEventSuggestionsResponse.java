@@ -0,0 +1,17 @@
+package com.microservices.api_gateway.models.dto.response.event;
+
+import com.microservices.api_gateway.models.EventSuggestion;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class GetEventSuggestionsResponse {
+    private List<EventSuggestion> suggestions;
+    private String error;
+}
@@ -0,0 +1,19 @@
+package com.microservices.api_gateway.models.dto.response.ticket;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CreateTicketsResponse {
+    private String message;
+    private List<String> ticketIds;
+    private LocalDateTime holdExpiresAt;
+    private String error;
+}
@@ -0,0 +1,7 @@
+package com.microservices.api_gateway.models.enums;
+
+public enum RateLimitTier {
+    ANONYMOUS,
+    USER,
+    PRIVILEGED
+}
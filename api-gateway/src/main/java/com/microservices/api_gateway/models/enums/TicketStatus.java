@@ -1,6 +1,8 @@
 package com.microservices.api_gateway.models.enums;
 
 public enum TicketStatus {
+    HELD,
+    EXPIRED,
     VALID,
     USED
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.microservices.api_gateway.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import com.microservices.api_gateway.dao.UserDao;
+import com.microservices.api_gateway.models.User;
+import com.microservices.api_gateway.models.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+@Service
+@RequiredArgsConstructor
+public class AuthenticatedUserService {
+
+    private final EnvConfiguration envConfiguration;
+    private final UserDao userDao;
+
+    private Cache<String, User> users;
+
+    @PostConstruct
+    void buildCache() {
+        users = Caffeine.newBuilder()
+                .maximumSize(envConfiguration.getUserCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(envConfiguration.getUserCacheTtlSeconds()))
+                .build();
+    }
+
+    public Optional<User> resolvePrincipal(Claims claims) {
+        String userId = claims.getSubject();
+        String role = claims.get("role", String.class);
+
+        if (isNull(role)) {
+            return findUser(userId);
+        }
+
+        User principal;
+        try {
+            principal = User.builder()
+                    .id(userId)
+                    .role(UserRole.valueOf(role))
+                    .tokenVersion(getTokenVersion(claims))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (!envConfiguration.isUserCacheEnabled()) {
+            return Optional.of(principal);
+        }
+
+        return findUser(userId)
+                .filter(user -> user.getTokenVersion() == principal.getTokenVersion() && user.getRole() == principal.getRole())
+                .map(user -> principal);
+    }
+
+    public Optional<User> loadCurrentUser(String userId) {
+        Optional<User> user = userDao.findById(userId);
+        user.ifPresentOrElse(this::cacheUser, () -> evict(userId));
+        return user;
+    }
+
+    public void evict(String userId) {
+        users.invalidate(userId);
+    }
+
+    private Optional<User> findUser(String userId) {
+        if (!envConfiguration.isUserCacheEnabled()) {
+            return userDao.findById(userId);
+        }
+
+        return Optional.ofNullable(users.get(userId, id -> userDao.findById(id).orElse(null)));
+    }
+
+    private void cacheUser(User user) {
+        if (envConfiguration.isUserCacheEnabled()) {
+            users.put(user.getId(), user);
+        }
+    }
+
+    private long getTokenVersion(Claims claims) {
+        Long tokenVersion = claims.get("tokenVersion", Long.class);
+        return isNull(tokenVersion) ? 0 : tokenVersion;
+    }
+
+}
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -15,49 +16,40 @@ public class AuthenticationService {
     private final Producer producer;
     private final ErrorResponseService errorResponseService;
 
-    @SuppressWarnings("unchecked")
-    private <T> ResponseEntity<Map<String, String>> sendAuthRequest(String routingKey, T request) {
-        try {
-            Map<String, String> response = producer.sendAndReceive(
-                    "auth-exchange",
-                    routingKey,
-                    request,
-                    Map.class
-            );
-
-            if (response == null) {
-                return ResponseEntity.internalServerError()
-                        .body(Map.of("error", "No response received from authentication service"));
-            }
-
-            return errorResponseService.mapToResponseEntity(response);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "Error communicating with authentication service: " + e.getMessage()));
-        }
+    private <T> CompletableFuture<ResponseEntity<Map<String, String>>> sendAuthRequest(String routingKey, T request) {
+        return producer.sendAndReceive("auth-exchange", routingKey, request)
+                .thenApply(response -> {
+                    if (response == null) {
+                        return ResponseEntity.internalServerError()
+                                .body(Map.of("error", "No response received from authentication service"));
+                    }
+
+                    return errorResponseService.mapToResponseEntity(response);
+                })
+                .exceptionally(e -> errorResponseService.mapCommunicationFailure(e, "Error communicating with authentication service: "));
     }
 
-    public ResponseEntity<Map<String, String>> login(LoginRequest request) {
-        return sendAuthRequest("auth.login", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> login(LoginRequest request) {
+        return sendAuthRequest("auth.query.login", request);
     }
 
-    public ResponseEntity<Map<String, String>> register(RegisterRequest request) {
-        return sendAuthRequest("auth.register", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> register(RegisterRequest request) {
+        return sendAuthRequest("auth.command.register", request);
     }
 
-    public ResponseEntity<Map<String, String>> validateEmail(ValidateEmailRequest request) {
-        return sendAuthRequest("auth.validateEmail", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> validateEmail(ValidateEmailRequest request) {
+        return sendAuthRequest("auth.command.validateEmail", request);
     }
 
-    public ResponseEntity<Map<String, String>> validatePhone(ValidatePhoneRequest request) {
-        return sendAuthRequest("auth.validatePhone", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> validatePhone(ValidatePhoneRequest request) {
+        return sendAuthRequest("auth.command.validatePhone", request);
     }
 
-    public ResponseEntity<Map<String, String>> resendEmailValidation(ResendEmailValidationRequest request) {
-        return sendAuthRequest("auth.resendEmailValidation", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> resendEmailValidation(ResendEmailValidationRequest request) {
+        return sendAuthRequest("auth.command.resendEmailValidation", request);
     }
 
-    public ResponseEntity<Map<String, String>> sendPhoneValidationCode() {
-        return sendAuthRequest("auth.sendPhoneValidation", Map.of());
+    public CompletableFuture<ResponseEntity<Map<String, String>>> sendPhoneValidationCode() {
+        return sendAuthRequest("auth.command.sendPhoneValidation", Map.of());
     }
 }
\ No newline at end of file
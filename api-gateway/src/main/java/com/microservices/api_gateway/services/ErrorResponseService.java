@@ -1,39 +1,58 @@
 package com.microservices.api_gateway.services;
 
+import com.microservices.api_gateway.BackendUnavailableException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
 public class ErrorResponseService {
 
     public ResponseEntity<Map<String, String>> mapToResponseEntity(Map<String, String> response) {
-        if (response.containsKey("NOT_FOUND")) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
-        }
+        HttpStatus status = response.keySet().stream()
+                .map(this::resolveStatus)
+                .filter(candidate -> candidate != HttpStatus.OK)
+                .findFirst()
+                .orElse(HttpStatus.OK);
 
-        if (response.containsKey("FORBIDDEN")) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
-        }
+        return ResponseEntity.status(status).body(response);
+    }
 
-        if (response.containsKey("UNAUTHORIZED")) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
-        }
+    public HttpStatus resolveStatus(String key) {
+        return switch (key) {
+            case "NOT_FOUND" -> HttpStatus.NOT_FOUND;
+            case "FORBIDDEN" -> HttpStatus.FORBIDDEN;
+            case "UNAUTHORIZED" -> HttpStatus.UNAUTHORIZED;
+            case "BAD_REQUEST" -> HttpStatus.BAD_REQUEST;
+            case "INTERNAL_SERVER_ERROR" -> HttpStatus.INTERNAL_SERVER_ERROR;
+            default -> HttpStatus.OK;
+        };
+    }
 
-        if (response.containsKey("BAD_REQUEST")) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    public ResponseEntity<Map<String, String>> mapCommunicationFailure(Throwable throwable, String message) {
+        if (unwrap(throwable) instanceof BackendUnavailableException unavailable) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(unavailable.getRetryAfterSeconds()))
+                    .body(Map.of("error", unavailable.getMessage()));
         }
 
-        if (response.containsKey("INTERNAL_SERVER_ERROR")) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-        }
+        return ResponseEntity.internalServerError().body(Map.of("error", message + describe(throwable)));
+    }
 
+    public String describe(Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        return cause instanceof TimeoutException ? "No reply received within the RPC timeout" : cause.getMessage();
+    }
 
-        return ResponseEntity.ok(response);
+    private Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
     }
 
 }
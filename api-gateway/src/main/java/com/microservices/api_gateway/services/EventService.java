@@ -1,19 +1,20 @@
 package com.microservices.api_gateway.services;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.api_gateway.CacheKey;
 import com.microservices.api_gateway.Producer;
+import com.microservices.api_gateway.SingleFlight;
 import com.microservices.api_gateway.models.dto.request.event.*;
 import com.microservices.api_gateway.models.dto.response.event.GetAllEventsResponse;
 import com.microservices.api_gateway.models.dto.response.event.GetEventByIdResponse;
+import com.microservices.api_gateway.models.dto.response.event.GetEventSuggestionsResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
-import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
 
 @Service
 @RequiredArgsConstructor
@@ -21,108 +22,79 @@ public class EventService {
 
     private final Producer producer;
     private final ErrorResponseService errorResponseService;
-
-    @SuppressWarnings("unchecked")
-    private <T> ResponseEntity<Map<String, String>> sendEventRequest(String routingKey, T request) {
-        try {
-            Map<String, String> response = producer.sendAndReceive(
-                    "event-exchange",
-                    routingKey,
-                    request,
-                    Map.class
-            );
-
-            if (response == null) {
-                return ResponseEntity.internalServerError()
-                        .body(Map.of("error", "No response received from event service"));
-            }
-
-            return errorResponseService.mapToResponseEntity(response);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "Error communicating with event service: " + e.getMessage()));
-        }
+    private final RpcResponseService rpcResponseService;
+    private final SingleFlight singleFlight;
+    private final ResponseCacheService responseCacheService;
+
+    private <T> CompletableFuture<ResponseEntity<Map<String, String>>> sendEventRequest(String routingKey, T request) {
+        return producer.sendAndReceive("event-exchange", routingKey, request)
+                .thenApply(response -> {
+                    if (response == null) {
+                        return ResponseEntity.internalServerError()
+                                .body(Map.of("error", "No response received from event service"));
+                    }
+
+                    return errorResponseService.mapToResponseEntity(response);
+                })
+                .exceptionally(e -> errorResponseService.mapCommunicationFailure(e, "Error communicating with event service: "));
     }
 
-    private <T, R> ResponseEntity<Map<String, R>> sendAndProcessEventRequest(String endpoint, T request, Class<R> responseClass) throws JsonProcessingException {
-        try {
-            ResponseEntity<Map<String, String>> response = sendEventRequest(endpoint, request);
-            HttpStatusCode status = response.getStatusCode();
-            Map<String, String> responseBody = response.getBody();
-
-            if (responseBody.isEmpty()) {
-                return ResponseEntity.status(HttpStatusCode.valueOf(500))
-                        .body(singletonMap("error", createErrorResponse(responseClass, "Empty response received from service")));
-            }
-
-            String key = responseBody.keySet().iterator().next();
-            String jsonValue = responseBody.get(key);
-
-            if (jsonValue == null || !(jsonValue.trim().startsWith("{") || jsonValue.trim().startsWith("["))) {
-                return ResponseEntity.status(HttpStatusCode.valueOf(500))
-                        .body(singletonMap("error", createErrorResponse(responseClass, "Service error: " + jsonValue)));
-            }
-
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-
-            R userResponse = objectMapper.readValue(jsonValue, responseClass);
-            Map<String, R> result = singletonMap(key, userResponse);
-            return ResponseEntity.status(status).body(result);
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatusCode.valueOf(500))
-                    .body(singletonMap("error", createErrorResponse(responseClass, "Processing error: " + e.getMessage())));
-        }
+    private <T> CompletableFuture<ResponseEntity<byte[]>> forwardEventRequest(String routingKey, T request, Class<?> responseClass) {
+        return rpcResponseService.forward(producer.send("event-exchange", routingKey, request), responseClass, "the event service");
     }
 
-    @SuppressWarnings("unchecked")
-    private <R> R createErrorResponse(Class<R> responseClass, String errorMessage) {
-        try {
-            if (responseClass.equals(GetAllEventsResponse.class)) {
-                return (R) GetAllEventsResponse.builder()
-                        .error(errorMessage)
-                        .build();
-            } else if (responseClass.equals(GetEventByIdResponse.class)) {
-                return (R) GetEventByIdResponse.builder()
-                        .error(errorMessage)
-                        .build();
-            } else {
-                try {
-                    Object instance = responseClass.getDeclaredConstructor().newInstance();
-                    responseClass.getMethod("setError", String.class).invoke(instance, errorMessage);
-                    return (R) instance;
-                } catch (Exception e) {
-                    return null;
-                }
-            }
-        } catch (Exception e) {
-            return null;
-        }
-    }
-
-    public ResponseEntity<Map<String, String>> createEvent(CreateEventRequest request, String authenticatedUserId) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> createEvent(CreateEventRequest request, String authenticatedUserId) {
         request.setOrganizerId(authenticatedUserId);
-        return sendEventRequest("event.createEvent", request);
+        return sendEventRequest("event.command.createEvent", request)
+                .thenApply(response -> evictEventOnSuccess(null, response));
     }
 
-    public ResponseEntity<Map<String, GetEventByIdResponse>> getEventById(String eventId) throws JsonProcessingException {
+    public CompletableFuture<ResponseEntity<byte[]>> getEventById(String eventId, String ifNoneMatch) {
         GetEventByIdRequest request = new GetEventByIdRequest(eventId);
-        return sendAndProcessEventRequest("event.getEventById", request, GetEventByIdResponse.class);
+        return responseCacheService.getOrLoad("event.query.getEventById", eventId, ifNoneMatch,
+                () -> singleFlight.execute("event.query.getEventById", eventId,
+                        () -> forwardEventRequest("event.query.getEventById", request, GetEventByIdResponse.class)));
+    }
+
+    public CompletableFuture<ResponseEntity<byte[]>> getEventSuggestions(String query, String filter, int limit) {
+        GetEventSuggestionsRequest request = new GetEventSuggestionsRequest(query, filter, limit);
+        return singleFlight.execute("event.query.getEventSuggestions", CacheKey.of(query, filter, String.valueOf(limit)),
+                () -> forwardEventRequest("event.query.getEventSuggestions", request, GetEventSuggestionsResponse.class));
     }
 
-    public ResponseEntity<Map<String, String>> updateEvent(UpdateEventRequest request, String authenticatedUserId) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateEvent(UpdateEventRequest request, String authenticatedUserId) {
         request.setUserId(authenticatedUserId);
-        return sendEventRequest("event.updateEvent", request);
+        return sendEventRequest("event.command.updateEvent", request)
+                .thenApply(response -> evictEventOnSuccess(request.getEventId(), response));
     }
 
-    public ResponseEntity<Map<String, String>> deleteEvent(String eventId, String authenticatedUserId) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> deleteEvent(String eventId, String authenticatedUserId) {
         DeleteEventRequest request = new DeleteEventRequest(eventId, authenticatedUserId);
-        return sendEventRequest("event.deleteEvent", request);
+        return sendEventRequest("event.command.deleteEvent", request)
+                .thenApply(response -> evictEventOnSuccess(eventId, response));
+    }
+
+    public CompletableFuture<ResponseEntity<byte[]>> getAllEvents(int page, int pageSize, String filter, String filterSearch, String cursor,
+                                                                  String ifNoneMatch) {
+        GetAllEventsRequest request = new GetAllEventsRequest(page, pageSize, filter, filterSearch, cursor);
+        String requestKey = CacheKey.of(String.valueOf(page), String.valueOf(pageSize), filter, filterSearch, cursor);
+        return responseCacheService.getOrLoad("event.query.getAllEvents", requestKey, ifNoneMatch,
+                () -> singleFlight.execute("event.query.getAllEvents", requestKey,
+                        () -> forwardEventRequest("event.query.getAllEvents", request, GetAllEventsResponse.class)));
     }
 
-    public ResponseEntity<Map<String, GetAllEventsResponse>> getAllEvents(int page, int pageSize, String filter, String filterSearch) throws JsonProcessingException {
-        GetAllEventsRequest request = new GetAllEventsRequest(page, pageSize, filter, filterSearch);
-        return sendAndProcessEventRequest("event.getAllEvents", request, GetAllEventsResponse.class);
+    public void evictEvent(String eventId) {
+        if (!isNull(eventId)) {
+            responseCacheService.evict("event.query.getEventById", eventId);
+        }
+        responseCacheService.evictAll("event.query.getAllEvents");
+    }
+
+    private ResponseEntity<Map<String, String>> evictEventOnSuccess(String eventId, ResponseEntity<Map<String, String>> response) {
+        if (response.getStatusCode().is2xxSuccessful()) {
+            evictEvent(eventId);
+        }
+        return response;
     }
 
 }
@@ -1,8 +1,11 @@
 package com.microservices.api_gateway.services;
 
 import com.microservices.api_gateway.configurations.EnvConfiguration;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 
+import static java.util.Objects.isNull;
 import static org.springframework.util.StringUtils.hasText;
 
 @Component
@@ -19,38 +23,43 @@ public class JwtTokenService {
 
     private final EnvConfiguration envConfiguration;
 
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void buildParser() {
+        jwtParser = Jwts.parserBuilder().setSigningKey(getSigningKey()).build();
+    }
+
     private Key getSigningKey() {
         String secretString = envConfiguration.getJwtSecretKey();
         byte[] keyBytes = secretString.getBytes(StandardCharsets.UTF_8);
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
-    public String resolveUserIdFromRequest(HttpServletRequest request) {
-        String token = verifyTokenFormat(request);
-        return token == null ? null : resolveUserIdFromToken(token);
-    }
-
-    public String resolveUserIdFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody().getSubject();
-    }
-
-    private String verifyTokenFormat(HttpServletRequest request) {
+    public Claims resolveAccessClaimsFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
 
         if (!hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
             return null;
         }
 
-        String token = bearerToken.substring(7);
-        return isValidTokenFormat(token) ? token : null;
+        Claims claims = parseTokenClaims(bearerToken.substring(7));
+        if (isNull(claims) || !isAccessToken(claims)) {
+            return null;
+        }
+
+        return claims;
     }
 
-    private boolean isValidTokenFormat(String token) {
+    private Claims parseTokenClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (Exception exception) {
-            return false;
+            return null;
         }
     }
-}
\ No newline at end of file
+
+    private boolean isAccessToken(Claims claims) {
+        return "access".equals(claims.get("type")) && hasText(claims.getSubject());
+    }
+}
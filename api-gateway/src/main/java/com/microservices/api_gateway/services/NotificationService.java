@@ -1,7 +1,5 @@
 package com.microservices.api_gateway.services;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.api_gateway.Producer;
 import com.microservices.api_gateway.models.User;
 import com.microservices.api_gateway.models.dto.request.notification.GetCurrentUserNotificationsRequest;
@@ -11,13 +9,11 @@ import com.microservices.api_gateway.models.dto.request.notification.UpdateNotif
 import com.microservices.api_gateway.models.dto.response.notification.GetCurrentUserNotificationsResponse;
 import com.microservices.api_gateway.models.dto.response.notification.GetUserNotificationsResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
-
-import static java.util.Collections.singletonMap;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -25,56 +21,40 @@ public class NotificationService {
 
     private final Producer producer;
     private final ErrorResponseService errorResponseService;
-
-    @SuppressWarnings("unchecked")
-    private <T> ResponseEntity<Map<String, String>> sendNotificationRequest(String routingKey, T request) {
-        try {
-            Map<String, String> response = producer.sendAndReceive(
-                    "notification-exchange",
-                    routingKey,
-                    request,
-                    Map.class
-            );
-
-            if (response == null) {
-                return ResponseEntity.internalServerError()
-                        .body(Map.of("error", "No response received from the notification service"));
-            }
-
-            return errorResponseService.mapToResponseEntity(response);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "Error communicating with the notification service: " + e.getMessage()));
-        }
+    private final RpcResponseService rpcResponseService;
+
+    private <T> CompletableFuture<ResponseEntity<Map<String, String>>> sendNotificationRequest(String routingKey, T request) {
+        return producer.sendAndReceive("notification-exchange", routingKey, request)
+                .thenApply(response -> {
+                    if (response == null) {
+                        return ResponseEntity.internalServerError()
+                                .body(Map.of("error", "No response received from the notification service"));
+                    }
+
+                    return errorResponseService.mapToResponseEntity(response);
+                })
+                .exceptionally(e -> errorResponseService.mapCommunicationFailure(e, "Error communicating with the notification service: "));
     }
 
-    private <T, R> ResponseEntity<Map<String, R>> sendAndProcessNotificationRequest(String endpoint, T request, Class<R> responseClass) throws JsonProcessingException {
-        ResponseEntity<Map<String, String>> response = sendNotificationRequest(endpoint, request);
-        HttpStatusCode status = response.getStatusCode();
-        Map<String, String> responseBody = response.getBody();
-        String key = responseBody.keySet().iterator().next();
-        String jsonValue = responseBody.get(key);
-        ObjectMapper objectMapper = new ObjectMapper();
-        R userResponse = objectMapper.readValue(jsonValue, responseClass);
-        Map<String, R> result = singletonMap(key, userResponse);
-        return ResponseEntity.status(status).body(result);
+    private <T> CompletableFuture<ResponseEntity<byte[]>> forwardNotificationRequest(String routingKey, T request, Class<?> responseClass) {
+        return rpcResponseService.forward(producer.send("notification-exchange", routingKey, request), responseClass, "the notification service");
     }
 
-    public ResponseEntity<Map<String, GetUserNotificationsResponse>> getUserNotifications(GetUserNotificationsRequest request) throws JsonProcessingException {
-        return sendAndProcessNotificationRequest("notification.getUserNotifications", request, GetUserNotificationsResponse.class);
+    public CompletableFuture<ResponseEntity<byte[]>> getUserNotifications(GetUserNotificationsRequest request) {
+        return forwardNotificationRequest("notification.query.getUserNotifications", request, GetUserNotificationsResponse.class);
     }
 
-    public ResponseEntity<Map<String, GetCurrentUserNotificationsResponse>> getCurrentUserNotifications(User authenticatedUser) throws JsonProcessingException {
+    public CompletableFuture<ResponseEntity<byte[]>> getCurrentUserNotifications(User authenticatedUser) {
         GetCurrentUserNotificationsRequest request = new GetCurrentUserNotificationsRequest(authenticatedUser.getId());
-        return sendAndProcessNotificationRequest("notification.getCurrentUserNotifications", request, GetCurrentUserNotificationsResponse.class);
+        return forwardNotificationRequest("notification.query.getCurrentUserNotifications", request, GetCurrentUserNotificationsResponse.class);
     }
 
-    public ResponseEntity<Map<String, String>> updateNotificationPreferences(UpdateNotificationPreferencesRequest request, User authenticatedUser) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateNotificationPreferences(UpdateNotificationPreferencesRequest request, User authenticatedUser) {
         request.setUserId(authenticatedUser.getId());
-        return sendNotificationRequest("notification.updateNotificationPreferences", request);
+        return sendNotificationRequest("notification.command.updateNotificationPreferences", request);
     }
 
-    public ResponseEntity<Map<String, String>> sendNotification(SendNotificationRequest request) {
-        return sendNotificationRequest("notification.sendNotification", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> sendNotification(SendNotificationRequest request) {
+        return sendNotificationRequest("notification.command.sendNotification", request);
     }
 }
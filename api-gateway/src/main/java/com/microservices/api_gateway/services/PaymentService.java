@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -16,35 +17,26 @@ public class PaymentService {
     private final Producer producer;
     private final ErrorResponseService errorResponseService;
 
-    @SuppressWarnings("unchecked")
-    private <T> ResponseEntity<Map<String, String>> sendPaymentRequest(String routingKey, T request) {
-        try {
-            Map<String, String> response = producer.sendAndReceive(
-                    "payment-exchange",
-                    routingKey,
-                    request,
-                    Map.class
-            );
-
-            if (response == null) {
-                return ResponseEntity.internalServerError()
-                        .body(Map.of("error", "No response received from the payment service"));
-            }
-
-            return errorResponseService.mapToResponseEntity(response);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "Error communicating with the payment service: " + e.getMessage()));
-        }
+    private <T> CompletableFuture<ResponseEntity<Map<String, String>>> sendPaymentRequest(String routingKey, T request) {
+        return producer.sendAndReceive("payment-exchange", routingKey, request)
+                .thenApply(response -> {
+                    if (response == null) {
+                        return ResponseEntity.internalServerError()
+                                .body(Map.of("error", "No response received from the payment service"));
+                    }
+
+                    return errorResponseService.mapToResponseEntity(response);
+                })
+                .exceptionally(e -> errorResponseService.mapCommunicationFailure(e, "Error communicating with the payment service: "));
     }
 
-    public ResponseEntity<Map<String, String>> processCardPayment(PayWithCardRequest request, String authenticatedUserId) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> processCardPayment(PayWithCardRequest request, String authenticatedUserId) {
         request.setUserId(authenticatedUserId);
-        return sendPaymentRequest("payment.payWithCard", request);
+        return sendPaymentRequest("payment.command.payWithCard", request);
     }
 
-    public ResponseEntity<Map<String, String>> processPayPalPayment(PayWithPaypalRequest request, String authenticatedUserId) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> processPayPalPayment(PayWithPaypalRequest request, String authenticatedUserId) {
         request.setUserId(authenticatedUserId);
-        return sendPaymentRequest("payment.payWithPaypal", request);
+        return sendPaymentRequest("payment.command.payWithPaypal", request);
     }
 }
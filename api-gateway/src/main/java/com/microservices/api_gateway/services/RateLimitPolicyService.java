@@ -0,0 +1,74 @@
+package com.microservices.api_gateway.services;
+
+import com.microservices.api_gateway.RouteMatcher;
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import com.microservices.api_gateway.models.User;
+import com.microservices.api_gateway.models.enums.RateLimitTier;
+import com.microservices.api_gateway.models.enums.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import static java.util.Objects.isNull;
+
+@Service
+@RequiredArgsConstructor
+public class RateLimitPolicyService {
+
+    private static final int DEFAULT_COST = 1;
+
+    private final EnvConfiguration envConfiguration;
+
+    private final RouteMatcher<Integer> routeCosts = new RouteMatcher<Integer>()
+            .add("GET", "/api/events/{id}", 1)
+            .add("GET", "/api/events/suggestions", 1)
+            .add("POST", "/api/events", 2)
+            .add("POST", "/api/auth/login", 10)
+            .add("POST", "/api/auth/register", 20)
+            .add("POST", "/api/auth/validate-email", 5)
+            .add("POST", "/api/auth/resend-email-validation", 20)
+            .add("POST", "/api/private/auth/validate-phone", 10)
+            .add("POST", "/api/private/auth/send-phone-code", 20)
+            .add("GET", "/api/private/user", 1)
+            .add("DELETE", "/api/private/user", 10)
+            .add("PUT", "/api/private/user/username", 3)
+            .add("PUT", "/api/private/user/email", 3)
+            .add("PUT", "/api/private/user/phone", 3)
+            .add("PUT", "/api/private/user/password", 10)
+            .add("GET", "/api/private/tickets", 2)
+            .add("POST", "/api/private/tickets", 10)
+            .add("PUT", "/api/private/ticket/{ticketId}/cancel", 5)
+            .add("PUT", "/api/private/admin/ticket/{ticketId}/validate", 2)
+            .add("POST", "/api/private/payment/card", 15)
+            .add("POST", "/api/private/payment/paypal", 15)
+            .add("GET", "/api/private/notifications", 1)
+            .add("PUT", "/api/private/notifications/preferences", 2)
+            .add("POST", "/api/private/admin/notifications/user", 2)
+            .add("POST", "/api/private/admin/notifications/send", 10)
+            .add("POST", "/api/private/artist/event", 5)
+            .add("PUT", "/api/private/artist/event", 5)
+            .add("DELETE", "/api/private/artist/event/{id}", 5)
+            .add("GET", "/api/private/admin/user/{id}", 1)
+            .add("PUT", "/api/private/admin/user", 3)
+            .add("POST", "/api/private/admin/user", 10);
+
+    public int getCost(String method, String uri) {
+        return routeCosts.match(method, uri, DEFAULT_COST);
+    }
+
+    public RateLimitTier resolveTier(User authenticatedUser) {
+        if (isNull(authenticatedUser)) {
+            return RateLimitTier.ANONYMOUS;
+        }
+
+        return authenticatedUser.getRole() == UserRole.USER ? RateLimitTier.USER : RateLimitTier.PRIVILEGED;
+    }
+
+    public int getCapacity(RateLimitTier tier) {
+        return switch (tier) {
+            case ANONYMOUS -> envConfiguration.getRateLimitCapacity();
+            case USER -> envConfiguration.getRateLimitUserCapacity();
+            case PRIVILEGED -> envConfiguration.getRateLimitPrivilegedCapacity();
+        };
+    }
+
+}
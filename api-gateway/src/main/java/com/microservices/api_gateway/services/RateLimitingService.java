@@ -1,53 +1,125 @@
 package com.microservices.api_gateway.services;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservices.api_gateway.CountMinSketch;
+import com.microservices.api_gateway.TokenBucket;
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import com.microservices.api_gateway.dao.RateLimitStore;
+import com.microservices.api_gateway.models.enums.RateLimitTier;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 @EnableScheduling
+@RequiredArgsConstructor
 public class RateLimitingService {
 
-    private final Map<String, Integer> requestCounts = new ConcurrentHashMap<>();
-    private final Map<String, Long> blockExpirations = new ConcurrentHashMap<>();
+    private final EnvConfiguration envConfiguration;
+    private final RateLimitStore rateLimitStore;
+    private final RateLimitPolicyService rateLimitPolicyService;
 
-    private static final int MAX_REQUESTS = 60;
-    private static final long BLOCK_DURATION = 600000;
+    private static final int SKETCH_DEPTH = 4;
 
-    public boolean isIpBlocked(String ipAddress) {
-        return blockExpirations.containsKey(ipAddress) &&
-                blockExpirations.get(ipAddress) > System.currentTimeMillis();
+    private Cache<String, TokenBucket> buckets;
+    private volatile CountMinSketch currentWindow;
+    private volatile CountMinSketch previousWindow;
+
+    @PostConstruct
+    void buildBuckets() {
+        buckets = Caffeine.newBuilder()
+                .maximumSize(envConfiguration.getRateLimitMaxTrackedClients())
+                .expireAfterAccess(Duration.ofSeconds(envConfiguration.getRateLimitRefillPeriodSeconds() + envConfiguration.getRateLimitBlockSeconds()))
+                .build();
+        currentWindow = newSketch();
+        previousWindow = newSketch();
+    }
+
+    public boolean tryAcquire(RateLimitTier tier, String identity, int cost) {
+        String key = getBucketKey(tier, identity);
+        long now = System.currentTimeMillis();
+
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket != null) {
+            return bucket.tryConsume(cost, now);
+        }
+
+        int capacity = rateLimitPolicyService.getCapacity(tier);
+        int promotionThreshold = capacity / 2;
+        long estimate = (long) previousWindow.estimate(key) + currentWindow.addAndEstimate(key, cost);
+        if (estimate <= promotionThreshold) {
+            return true;
+        }
+
+        return buckets.get(key, ignored -> newBucket(capacity, capacity - promotionThreshold, now)).tryConsume(cost, now);
     }
 
-    public boolean incrementAndCheckLimit(String ipAddress) {
-        int count = requestCounts.getOrDefault(ipAddress, 0) + 1;
-        requestCounts.put(ipAddress, count);
-        return count > MAX_REQUESTS;
+    public long getRetryAfterSeconds(RateLimitTier tier, String identity, int cost) {
+        TokenBucket bucket = buckets.getIfPresent(getBucketKey(tier, identity));
+        long retryAfterMillis = bucket == null ? 0 : bucket.retryAfterMillis(cost, System.currentTimeMillis());
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
     }
 
-    public void blockIpAddress(String ipAddress) {
-        blockExpirations.put(ipAddress, System.currentTimeMillis() + BLOCK_DURATION);
+    @Scheduled(fixedRateString = "${booking.properties.rate-limit-refill-period-seconds:60}", timeUnit = TimeUnit.SECONDS)
+    public void rotateWindow() {
+        previousWindow = currentWindow;
+        currentWindow = newSketch();
+
+        log.info("Rate limit window rotated | {} client(s) tracked exactly", buckets.estimatedSize());
     }
 
-    public void resetRequestCounts() {
-        requestCounts.clear();
-        blockExpirations.clear();
+    @Scheduled(fixedDelayString = "${booking.properties.rate-limit-sync-interval-millis:1000}")
+    public void synchronizeBuckets() {
+        long now = System.currentTimeMillis();
+        long window = now / (envConfiguration.getRateLimitRefillPeriodSeconds() * 1000L);
+
+        Map<String, TokenBucket> activeBuckets = new HashMap<>();
+        Map<String, Long> consumption = new HashMap<>();
+        buckets.asMap().forEach((key, bucket) -> {
+            if (!bucket.isIdle(now)) {
+                activeBuckets.put(key, bucket);
+                consumption.put(key, bucket.drainUnsyncedConsumption());
+            }
+        });
+
+        if (consumption.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, Long> totals = rateLimitStore.addAndGetTotals(window, consumption);
+            totals.forEach((key, total) -> {
+                TokenBucket bucket = activeBuckets.get(key);
+                bucket.debit(bucket.applyClusterTotal(window, total, consumption.get(key)), now);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to synchronize {} rate limit bucket(s) with the shared store", consumption.size(), e);
+        }
     }
 
-    @Scheduled(fixedRate = 60000)
-    public void scheduledReset() {
-        int blockedIpCount = blockExpirations.size();
-        int requestCountSize = requestCounts.size();
+    private TokenBucket newBucket(int capacity, int initialTokens, long now) {
+        return new TokenBucket(capacity, initialTokens,
+                envConfiguration.getRateLimitRefillPeriodSeconds() * 1000L,
+                envConfiguration.getRateLimitBlockSeconds() * 1000L,
+                now);
+    }
 
-        resetRequestCounts();
+    private CountMinSketch newSketch() {
+        return new CountMinSketch(SKETCH_DEPTH, envConfiguration.getRateLimitSketchWidth());
+    }
 
-        log.info("🔄 Rate limit reset at: {} | {} IP(s) unblocked | {} request count(s) reset",
-                System.currentTimeMillis(), blockedIpCount, requestCountSize);
+    private String getBucketKey(RateLimitTier tier, String identity) {
+        return tier.name() + ":" + identity;
     }
 
 }
@@ -0,0 +1,203 @@
+package com.microservices.api_gateway.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservices.api_gateway.CacheKey;
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import com.microservices.api_gateway.dao.ResponseCacheDao;
+import com.microservices.api_gateway.models.CachedResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResponseCacheService {
+
+    private final EnvConfiguration envConfiguration;
+    private final ResponseCacheDao responseCacheDao;
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    private Cache<String, CachedEntry> entries;
+    private ThreadPoolExecutor sharedCacheExecutor;
+
+    @PostConstruct
+    void buildCache() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(envConfiguration.getResponseCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(envConfiguration.getResponseCacheTtlSeconds()))
+                .build();
+
+        int poolSize = envConfiguration.getResponseCacheSharedPoolSize();
+        sharedCacheExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(envConfiguration.getResponseCacheSharedQueueCapacity()),
+                Thread.ofPlatform().name("response-cache-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sharedCacheExecutor.shutdown();
+    }
+
+    public CompletableFuture<ResponseEntity<byte[]>> getOrLoad(String name, String key, String ifNoneMatch,
+                                                               Supplier<CompletableFuture<ResponseEntity<byte[]>>> loader) {
+        String cacheKey = CacheKey.of(name, key);
+
+        CachedEntry cached = entries.getIfPresent(cacheKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(toResponse(cached, ifNoneMatch));
+        }
+
+        return findShared(cacheKey).thenComposeAsync(shared -> {
+            if (shared != null) {
+                return CompletableFuture.completedFuture(toResponse(shared, ifNoneMatch));
+            }
+
+            return loader.get().thenApply(response -> {
+                if (!response.getStatusCode().is2xxSuccessful() || isNull(response.getBody())) {
+                    return response;
+                }
+
+                CachedEntry entry = store(cacheKey, response.getBody());
+                return toResponse(entry, ifNoneMatch);
+            });
+        }, applicationTaskExecutor);
+    }
+
+    public void evict(String name, String key) {
+        String cacheKey = CacheKey.of(name, key);
+        entries.invalidate(cacheKey);
+        runShared(cacheKey, () -> responseCacheDao.deleteById(cacheKey));
+    }
+
+    public void evictAll(String name) {
+        String keyPrefix = CacheKey.of(name);
+        entries.asMap().keySet().removeIf(cacheKey -> cacheKey.startsWith(keyPrefix));
+        runShared(keyPrefix, () -> responseCacheDao.deleteByIdPrefix(keyPrefix));
+    }
+
+    private CompletableFuture<CachedEntry> findShared(String cacheKey) {
+        CompletableFuture<Optional<CachedResponse>> sharedRead;
+        try {
+            sharedRead = CompletableFuture.supplyAsync(() -> responseCacheDao.findFreshById(cacheKey, LocalDateTime.now()), sharedCacheExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return sharedRead
+                .completeOnTimeout(Optional.empty(), envConfiguration.getResponseCacheSharedReadTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("Failed to read shared response cache entry {}", cacheKey, e);
+                    return Optional.empty();
+                })
+                .thenApply(cachedResponse -> cachedResponse
+                        .map(response -> {
+                            CachedEntry entry = new CachedEntry(response.getEtag(), response.getBody().getBytes(StandardCharsets.UTF_8));
+                            entries.put(cacheKey, entry);
+                            return entry;
+                        })
+                        .orElse(null));
+    }
+
+    private CachedEntry store(String cacheKey, byte[] body) {
+        String etag = computeEtag(body);
+
+        CachedEntry previous = entries.getIfPresent(cacheKey);
+        CachedEntry entry = new CachedEntry(etag, body);
+        entries.put(cacheKey, entry);
+
+        if (isNull(previous) || !previous.etag().equals(etag)) {
+            CachedResponse cachedResponse = CachedResponse.builder()
+                    .id(cacheKey)
+                    .etag(etag)
+                    .body(new String(body, StandardCharsets.UTF_8))
+                    .expiresAt(LocalDateTime.now().plusSeconds(envConfiguration.getResponseCacheTtlSeconds()))
+                    .build();
+            runShared(cacheKey, () -> responseCacheDao.save(cachedResponse));
+        }
+
+        return entry;
+    }
+
+    private void runShared(String cacheKey, Runnable operation) {
+        try {
+            sharedCacheExecutor.execute(() -> {
+                try {
+                    operation.run();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to update shared response cache entry {}", cacheKey, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Shared response cache queue is full, skipped update of {}", cacheKey);
+        }
+    }
+
+    private ResponseEntity<byte[]> toResponse(CachedEntry entry, String ifNoneMatch) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(envConfiguration.getResponseCacheTtlSeconds()))
+                .cachePublic()
+                .staleWhileRevalidate(Duration.ofSeconds(envConfiguration.getResponseCacheStaleWhileRevalidateSeconds()));
+
+        if (matches(ifNoneMatch, entry.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(entry.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.body());
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (isNull(ifNoneMatch)) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag));
+    }
+
+    private String computeEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record CachedEntry(String etag, byte[] body) {
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.microservices.api_gateway.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservices.api_gateway.MessageCodec;
+import com.microservices.api_gateway.RpcReply;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
+
+@Service
+@RequiredArgsConstructor
+public class RpcResponseService {
+
+    private final MessageCodec messageCodec;
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseService errorResponseService;
+
+    public CompletableFuture<ResponseEntity<byte[]>> forward(CompletableFuture<RpcReply> reply, Class<?> responseClass, String serviceName) {
+        return reply.thenApply(rpcReply -> toResponseEntity(rpcReply, responseClass, serviceName))
+                .exceptionally(e -> {
+                    ResponseEntity<Map<String, String>> failure = errorResponseService.mapCommunicationFailure(e, "Error communicating with " + serviceName + ": ");
+                    return write(failure.getStatusCode(), failure.getHeaders(), failure.getBody());
+                });
+    }
+
+    private ResponseEntity<byte[]> toResponseEntity(RpcReply reply, Class<?> responseClass, String serviceName) {
+        if (isNull(reply)) {
+            return writeError(responseClass, "No response received from " + serviceName);
+        }
+
+        try {
+            if (!reply.json()) {
+                return writeError(responseClass, "Service error: " + messageCodec.decodeText(reply.body(), reply.contentType()));
+            }
+
+            byte[] json = messageCodec.isJson(reply.contentType())
+                    ? reply.body()
+                    : messageCodec.encode(messageCodec.decode(reply.body(), reply.contentType(), responseClass), MessageCodec.JSON_CONTENT_TYPE);
+
+            return ResponseEntity.status(errorResponseService.resolveStatus(reply.status()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(wrap(reply.status(), json));
+        } catch (IOException e) {
+            return writeError(responseClass, "Processing error: " + e.getMessage());
+        }
+    }
+
+    private byte[] wrap(String status, byte[] json) throws JsonProcessingException {
+        byte[] key = objectMapper.writeValueAsBytes(status);
+        byte[] body = new byte[key.length + json.length + 3];
+
+        body[0] = '{';
+        System.arraycopy(key, 0, body, 1, key.length);
+        body[key.length + 1] = ':';
+        System.arraycopy(json, 0, body, key.length + 2, json.length);
+        body[body.length - 1] = '}';
+
+        return body;
+    }
+
+    private ResponseEntity<byte[]> writeError(Class<?> responseClass, String errorMessage) {
+        return write(HttpStatus.INTERNAL_SERVER_ERROR, HttpHeaders.EMPTY, singletonMap("error", createErrorResponse(responseClass, errorMessage)));
+    }
+
+    private ResponseEntity<byte[]> write(HttpStatusCode status, HttpHeaders headers, Object body) {
+        try {
+            return ResponseEntity.status(status)
+                    .headers(headers)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write response body", e);
+        }
+    }
+
+    private Object createErrorResponse(Class<?> responseClass, String errorMessage) {
+        try {
+            Object instance = responseClass.getDeclaredConstructor().newInstance();
+            responseClass.getMethod("setError", String.class).invoke(instance, errorMessage);
+            return instance;
+        } catch (ReflectiveOperationException e) {
+            return errorMessage;
+        }
+    }
+
+}
@@ -1,18 +1,19 @@
 package com.microservices.api_gateway.services;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.api_gateway.Producer;
 import com.microservices.api_gateway.models.User;
 import com.microservices.api_gateway.models.dto.request.user.*;
 import com.microservices.api_gateway.models.dto.response.user.GetCurrentUserInfoResponse;
 import com.microservices.api_gateway.models.dto.response.user.GetUserByIdResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import static java.util.Collections.singletonMap;
 
@@ -22,82 +23,97 @@ public class UserService {
 
     private final Producer producer;
     private final ErrorResponseService errorResponseService;
+    private final RpcResponseService rpcResponseService;
+    private final AuthenticatedUserService authenticatedUserService;
+
+    private <T> CompletableFuture<ResponseEntity<Map<String, String>>> sendUserRequest(String routingKey, T request) {
+        return producer.sendAndReceive("user-exchange", routingKey, request)
+                .thenApply(response -> {
+                    if (response == null) {
+                        return ResponseEntity.internalServerError()
+                                .body(Map.of("error", "No response received from the user service"));
+                    }
+
+                    return errorResponseService.mapToResponseEntity(response);
+                })
+                .exceptionally(e -> errorResponseService.mapCommunicationFailure(e, "Error communicating with the user service: "));
+    }
 
-    @SuppressWarnings("unchecked")
-    private <T> ResponseEntity<Map<String, String>> sendUserRequest(String routingKey, T request) {
-        try {
-            Map<String, String> response = producer.sendAndReceive(
-                    "user-exchange",
-                    routingKey,
-                    request,
-                    Map.class
-            );
-
-            if (response == null) {
-                return ResponseEntity.internalServerError()
-                        .body(Map.of("error", "No response received from the user service"));
-            }
+    private <T> CompletableFuture<ResponseEntity<byte[]>> forwardUserRequest(String routingKey, T request, Class<?> responseClass) {
+        return rpcResponseService.forward(producer.send("user-exchange", routingKey, request), responseClass, "the user service");
+    }
 
-            return errorResponseService.mapToResponseEntity(response);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                    .body(Map.of("error", "Error communicating with the user service: " + e.getMessage()));
-        }
+    public CompletableFuture<ResponseEntity<byte[]>> getUserById(String userId) {
+        GetUserByIdRequest request = new GetUserByIdRequest(userId);
+        return forwardUserRequest("user.query.getUserById", request, GetUserByIdResponse.class);
     }
 
-    private <T, R> ResponseEntity<Map<String, R>> sendAndProcessUserRequest(String endpoint, T request, Class<R> responseClass) throws JsonProcessingException {
-        ResponseEntity<Map<String, String>> response = sendUserRequest(endpoint, request);
-        HttpStatusCode status = response.getStatusCode();
-        Map<String, String> responseBody = response.getBody();
-        String key = responseBody.keySet().iterator().next();
-        String jsonValue = responseBody.get(key);
-        ObjectMapper objectMapper = new ObjectMapper();
-        R userResponse = objectMapper.readValue(jsonValue, responseClass);
-        Map<String, R> result = singletonMap(key, userResponse);
-        return ResponseEntity.status(status).body(result);
+    private CompletableFuture<ResponseEntity<Map<String, String>>> sendUserMutation(String routingKey, String userId, Function<User, Object> requestBuilder) {
+        Optional<User> currentUser = authenticatedUserService.loadCurrentUser(userId);
+        if (currentUser.isEmpty()) {
+            return CompletableFuture.completedFuture(errorResponseService.mapToResponseEntity(singletonMap("NOT_FOUND", "User not found")));
+        }
+
+        return evictOnSuccess(sendUserRequest(routingKey, requestBuilder.apply(currentUser.get())), userId);
     }
 
-    public ResponseEntity<Map<String, GetUserByIdResponse>> getUserById(String userId) throws JsonProcessingException {
-        GetUserByIdRequest request = new GetUserByIdRequest(userId);
-        return sendAndProcessUserRequest("user.getUserById", request, GetUserByIdResponse.class);
+    private CompletableFuture<ResponseEntity<Map<String, String>>> evictOnSuccess(CompletableFuture<ResponseEntity<Map<String, String>>> response, String userId) {
+        return response.whenComplete((result, error) -> {
+            if (result != null && result.getStatusCode().is2xxSuccessful()) {
+                authenticatedUserService.evict(userId);
+            }
+        });
     }
 
-    public ResponseEntity<Map<String, String>> updateUser(UpdateUserRequest request) {
-        return sendUserRequest("user.updateUser", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateUser(UpdateUserRequest request) {
+        return evictOnSuccess(sendUserRequest("user.command.updateUser", request), request.getUserId());
     }
 
-    public ResponseEntity<Map<String, GetCurrentUserInfoResponse>> getCurrentUserInfo(User user) throws JsonProcessingException {
-        GetCurrentUserInfoRequest request = buildGetCurrentUserInfoRequest(user);
-        return sendAndProcessUserRequest("user.getAuthenticatedUser", request, GetCurrentUserInfoResponse.class);
+    public CompletableFuture<ResponseEntity<byte[]>> getCurrentUserInfo(User user) {
+        Optional<User> currentUser = authenticatedUserService.loadCurrentUser(user.getId());
+        if (currentUser.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+        }
+
+        GetCurrentUserInfoRequest request = buildGetCurrentUserInfoRequest(currentUser.get());
+        return forwardUserRequest("user.query.getAuthenticatedUser", request, GetCurrentUserInfoResponse.class);
     }
 
-    public ResponseEntity<Map<String, String>> deleteCurrentUser(User user) {
+    public CompletableFuture<ResponseEntity<Map<String, String>>> deleteCurrentUser(User user) {
         DeleteCurrentUserRequest request = new DeleteCurrentUserRequest(user.getId());
-        return sendUserRequest("user.deleteCurrentUser", request);
+        return evictOnSuccess(sendUserRequest("user.command.deleteCurrentUser", request), user.getId());
     }
 
-    public ResponseEntity<Map<String, String>> updateUsername(UpdateUsernameRequest request, User user) {
-        request.setUser(user);
-        return sendUserRequest("user.updateUsername", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateUsername(UpdateUsernameRequest request, User user) {
+        return sendUserMutation("user.command.updateUsername", user.getId(), currentUser -> {
+            request.setUser(currentUser);
+            return request;
+        });
     }
 
-    public ResponseEntity<Map<String, String>> updateEmail(UpdateEmailRequest request, User user) {
-        request.setUser(user);
-        return sendUserRequest("user.updateEmail", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updateEmail(UpdateEmailRequest request, User user) {
+        return sendUserMutation("user.command.updateEmail", user.getId(), currentUser -> {
+            request.setUser(currentUser);
+            return request;
+        });
     }
 
-    public ResponseEntity<Map<String, String>> updatePhone(UpdatePhoneRequest request, User user) {
-        request.setUser(user);
-        return sendUserRequest("user.updatePhone", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updatePhone(UpdatePhoneRequest request, User user) {
+        return sendUserMutation("user.command.updatePhone", user.getId(), currentUser -> {
+            request.setUser(currentUser);
+            return request;
+        });
     }
 
-    public ResponseEntity<Map<String, String>> updatePassword(UpdatePasswordRequest request, User user) {
-        request.setUser(user);
-        return sendUserRequest("user.updatePassword", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> updatePassword(UpdatePasswordRequest request, User user) {
+        return sendUserMutation("user.command.updatePassword", user.getId(), currentUser -> {
+            request.setUser(currentUser);
+            return request;
+        });
     }
 
-    public ResponseEntity<Map<String, String>> createUser(CreateUserRequest request) {
-        return sendUserRequest("user.createUser", request);
+    public CompletableFuture<ResponseEntity<Map<String, String>>> createUser(CreateUserRequest request) {
+        return sendUserRequest("user.command.createUser", request);
     }
 
     private GetCurrentUserInfoRequest buildGetCurrentUserInfoRequest(User user) {
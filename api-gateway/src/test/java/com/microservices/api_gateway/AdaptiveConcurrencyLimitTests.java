@@ -0,0 +1,103 @@
+package com.microservices.api_gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimitTests {
+
+	private static final long FAST_RTT = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SLOW_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+	@Test
+	void rejectsAcquireOnceTheLimitIsInFlight() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 1, 10);
+
+		assertEquals(1, limit.tryAcquire());
+		assertEquals(2, limit.tryAcquire());
+		assertEquals(3, limit.tryAcquire());
+		assertEquals(-1, limit.tryAcquire());
+
+		limit.onIgnored();
+		assertEquals(2, limit.getInFlight());
+		assertEquals(3, limit.tryAcquire());
+		assertEquals(3, limit.getLimit());
+	}
+
+	@Test
+	void growsWhileSaturatedAndLatencyIsSteady() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100);
+
+		for (int sample = 0; sample < 50; sample++) {
+			complete(limit, FAST_RTT, limit.getLimit());
+		}
+
+		assertTrue(limit.getLimit() > 10, "limit did not grow: " + limit.getLimit());
+		assertTrue(limit.getLimit() <= 100);
+		assertEquals(0, limit.getInFlight());
+	}
+
+	@Test
+	void doesNotGrowWhileUnderutilized() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100);
+
+		for (int sample = 0; sample < 50; sample++) {
+			complete(limit, FAST_RTT, 1);
+		}
+
+		assertEquals(10, limit.getLimit());
+	}
+
+	@Test
+	void shrinksWhenLatencyRisesAndRecoversWhenItSettles() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 1, 20);
+		for (int sample = 0; sample < 100; sample++) {
+			complete(limit, FAST_RTT, limit.getLimit());
+		}
+		assertEquals(20, limit.getLimit());
+
+		for (int sample = 0; sample < 20; sample++) {
+			complete(limit, SLOW_RTT, limit.getLimit());
+		}
+		assertTrue(limit.getLimit() < 20, "limit did not shrink: " + limit.getLimit());
+
+		for (int sample = 0; sample < 100; sample++) {
+			complete(limit, FAST_RTT, limit.getLimit());
+		}
+		assertEquals(20, limit.getLimit());
+	}
+
+	@Test
+	void backsOffMultiplicativelyOnDropsDownToTheMinimum() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 5, 100);
+
+		limit.tryAcquire();
+		limit.onDropped();
+		assertEquals(9, limit.getLimit());
+
+		for (int drop = 0; drop < 10; drop++) {
+			limit.tryAcquire();
+			limit.onDropped();
+		}
+		assertEquals(5, limit.getLimit());
+		assertEquals(0, limit.getInFlight());
+	}
+
+	@Test
+	void retryAfterFollowsTheShortRtt() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100);
+		assertEquals(1, limit.getRetryAfterSeconds());
+
+		complete(limit, TimeUnit.SECONDS.toNanos(3), 1);
+		assertEquals(6, limit.getRetryAfterSeconds());
+	}
+
+	private void complete(AdaptiveConcurrencyLimit limit, long rttNanos, int inFlightAtStart) {
+		assertTrue(limit.tryAcquire() > 0);
+		limit.onSuccess(rttNanos, inFlightAtStart);
+	}
+
+}
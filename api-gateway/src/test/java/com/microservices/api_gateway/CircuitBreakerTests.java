@@ -0,0 +1,134 @@
+package com.microservices.api_gateway;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTests {
+
+	@Test
+	void opensOnceTheFailureRateIsReachedOverTheMinimumCalls() {
+		CircuitBreaker circuitBreaker = newCircuitBreaker();
+
+		circuitBreaker.onFailure(0);
+		circuitBreaker.onFailure(0);
+		circuitBreaker.onFailure(0);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+		circuitBreaker.onFailure(0);
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+	}
+
+	@Test
+	void staysClosedBelowTheFailureRate() {
+		CircuitBreaker circuitBreaker = newCircuitBreaker();
+
+		circuitBreaker.onFailure(0);
+		for (int call = 0; call < 10; call++) {
+			circuitBreaker.onSuccess(0);
+		}
+
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	void forgetsFailuresOnceTheWindowRollsOver() {
+		CircuitBreaker circuitBreaker = newCircuitBreaker();
+
+		circuitBreaker.onFailure(0);
+		circuitBreaker.onFailure(0);
+		circuitBreaker.onFailure(0);
+		circuitBreaker.onFailure(10000);
+
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	@Test
+	void rejectsCallsWhileOpenAndReportsTheRemainingTime() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker(0);
+
+		assertFalse(circuitBreaker.tryAcquire(1000));
+		assertEquals(4, circuitBreaker.getRetryAfterSeconds(1000));
+		assertFalse(circuitBreaker.tryAcquire(4999));
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+		assertTrue(circuitBreaker.tryAcquire(5000));
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+	}
+
+	@Test
+	void closesOnceEveryHalfOpenProbeSucceeds() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker(0);
+
+		assertTrue(circuitBreaker.tryAcquire(5000));
+		assertTrue(circuitBreaker.tryAcquire(5000));
+		assertFalse(circuitBreaker.tryAcquire(5000));
+
+		circuitBreaker.onSuccess(5100);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire(5100));
+
+		circuitBreaker.onSuccess(5200);
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+		assertTrue(circuitBreaker.tryAcquire(5200));
+	}
+
+	@Test
+	void reopensWhenAHalfOpenProbeFails() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker(0);
+
+		assertTrue(circuitBreaker.tryAcquire(5000));
+		assertTrue(circuitBreaker.tryAcquire(5000));
+		circuitBreaker.onSuccess(5100);
+		circuitBreaker.onFailure(5200);
+
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		assertFalse(circuitBreaker.tryAcquire(10199));
+		assertEquals(5, circuitBreaker.getRetryAfterSeconds(5200));
+		assertTrue(circuitBreaker.tryAcquire(10200));
+	}
+
+	@Test
+	void ignoredProbeFreesItsSlot() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker(0);
+
+		assertTrue(circuitBreaker.tryAcquire(5000));
+		assertTrue(circuitBreaker.tryAcquire(5000));
+		assertFalse(circuitBreaker.tryAcquire(5000));
+
+		circuitBreaker.onIgnored();
+		assertTrue(circuitBreaker.tryAcquire(5000));
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+	}
+
+	@Test
+	void startsAFreshWindowAfterClosing() {
+		CircuitBreaker circuitBreaker = openCircuitBreaker(0);
+		circuitBreaker.tryAcquire(5000);
+		circuitBreaker.tryAcquire(5000);
+		circuitBreaker.onSuccess(5000);
+		circuitBreaker.onSuccess(5000);
+
+		circuitBreaker.onFailure(5100);
+		circuitBreaker.onFailure(5100);
+		circuitBreaker.onFailure(5100);
+
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+
+	private CircuitBreaker openCircuitBreaker(long now) {
+		CircuitBreaker circuitBreaker = newCircuitBreaker();
+		for (int call = 0; call < 4; call++) {
+			circuitBreaker.onFailure(now);
+		}
+		assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+		return circuitBreaker;
+	}
+
+	private CircuitBreaker newCircuitBreaker() {
+		return new CircuitBreaker(0.5, 4, 10000, 5000, 2);
+	}
+
+}
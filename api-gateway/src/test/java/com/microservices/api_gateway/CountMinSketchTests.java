@@ -0,0 +1,115 @@
+package com.microservices.api_gateway;
+
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import com.microservices.api_gateway.dao.LocalRateLimitStore;
+import com.microservices.api_gateway.models.enums.RateLimitTier;
+import com.microservices.api_gateway.services.RateLimitPolicyService;
+import com.microservices.api_gateway.services.RateLimitingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountMinSketchTests {
+
+	@Test
+	void rejectsWidthThatIsNotAPowerOfTwo() {
+		assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(4, 1000));
+	}
+
+	@Test
+	void countsASingleKeyExactly() {
+		CountMinSketch sketch = new CountMinSketch(4, 1024);
+
+		assertEquals(0, sketch.estimate("ANONYMOUS:10.0.0.1"));
+		assertEquals(3, sketch.addAndEstimate("ANONYMOUS:10.0.0.1", 3));
+		assertEquals(5, sketch.addAndEstimate("ANONYMOUS:10.0.0.1", 2));
+		assertEquals(5, sketch.estimate("ANONYMOUS:10.0.0.1"));
+	}
+
+	@Test
+	void neverUnderestimatesAndNeverExceedsTheTotalCount() {
+		CountMinSketch sketch = new CountMinSketch(4, 64);
+		Map<String, Integer> counts = new HashMap<>();
+		long total = 0;
+
+		for (int i = 0; i < 5000; i++) {
+			String key = "USER:" + i % 700;
+			int count = 1 + i % 5;
+			counts.merge(key, count, Integer::sum);
+			total += count;
+
+			assertEquals(sketch.addAndEstimate(key, count), sketch.estimate(key));
+		}
+
+		for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+			int estimate = sketch.estimate(entry.getKey());
+			assertTrue(estimate >= entry.getValue(), entry.getKey() + " underestimated: " + estimate + " < " + entry.getValue());
+			assertTrue(estimate <= total, entry.getKey() + " overestimated beyond the total: " + estimate);
+		}
+	}
+
+	@Test
+	void conservativeUpdateKeepsLightKeysBelowAHeavyHitter() {
+		CountMinSketch sketch = new CountMinSketch(4, 256);
+		for (int i = 0; i < 500; i++) {
+			sketch.addAndEstimate("ANONYMOUS:light-" + i, 1);
+		}
+		sketch.addAndEstimate("ANONYMOUS:heavy", 1000);
+
+		int heavy = sketch.estimate("ANONYMOUS:heavy");
+		assertTrue(heavy >= 1000 && heavy <= 1500, "heavy estimate out of bounds: " + heavy);
+
+		for (int i = 0; i < 500; i++) {
+			int light = sketch.estimate("ANONYMOUS:light-" + i);
+			assertTrue(light >= 1 && light <= 501, "light-" + i + " estimate out of bounds: " + light);
+		}
+	}
+
+	@Test
+	void saturatesAtIntegerMaxValue() {
+		CountMinSketch sketch = new CountMinSketch(4, 64);
+		sketch.addAndEstimate("ANONYMOUS:flood", Integer.MAX_VALUE - 1);
+
+		assertEquals(Integer.MAX_VALUE, sketch.addAndEstimate("ANONYMOUS:flood", 10));
+		assertEquals(Integer.MAX_VALUE, sketch.estimate("ANONYMOUS:flood"));
+	}
+
+	@Test
+	void promotesAClientToAnExactBucketPastHalfItsCapacity() {
+		RateLimitingService rateLimitingService = newRateLimitingService(10);
+
+		for (int request = 0; request < 5; request++) {
+			assertTrue(rateLimitingService.tryAcquire(RateLimitTier.ANONYMOUS, "10.0.0.1", 1));
+		}
+		assertEquals(1, rateLimitingService.getRetryAfterSeconds(RateLimitTier.ANONYMOUS, "10.0.0.1", 1));
+
+		for (int request = 0; request < 5; request++) {
+			assertTrue(rateLimitingService.tryAcquire(RateLimitTier.ANONYMOUS, "10.0.0.1", 1));
+		}
+		assertFalse(rateLimitingService.tryAcquire(RateLimitTier.ANONYMOUS, "10.0.0.1", 1));
+		assertTrue(rateLimitingService.getRetryAfterSeconds(RateLimitTier.ANONYMOUS, "10.0.0.1", 1) > 1);
+
+		assertTrue(rateLimitingService.tryAcquire(RateLimitTier.ANONYMOUS, "10.0.0.2", 1));
+	}
+
+	private RateLimitingService newRateLimitingService(int capacity) {
+		EnvConfiguration envConfiguration = new EnvConfiguration();
+		envConfiguration.setRateLimitCapacity(capacity);
+		envConfiguration.setRateLimitRefillPeriodSeconds(60);
+		envConfiguration.setRateLimitBlockSeconds(0);
+		envConfiguration.setRateLimitMaxTrackedClients(1000);
+		envConfiguration.setRateLimitSketchWidth(1024);
+
+		RateLimitingService rateLimitingService = new RateLimitingService(envConfiguration, new LocalRateLimitStore(), new RateLimitPolicyService(envConfiguration));
+		ReflectionTestUtils.invokeMethod(rateLimitingService, "buildBuckets");
+		return rateLimitingService;
+	}
+
+}
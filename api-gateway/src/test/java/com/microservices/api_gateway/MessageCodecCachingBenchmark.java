@@ -0,0 +1,88 @@
+package com.microservices.api_gateway;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.microservices.api_gateway.models.dto.response.event.GetAllEventsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageCodecCachingBenchmark {
+
+	@Param({"1", "50"})
+	private int eventCount;
+
+	private final MessageCodec messageCodec = new MessageCodec();
+
+	private GetAllEventsResponse eventsResponse;
+	private String perCallJson;
+	private byte[] cachedJson;
+
+	@Setup
+	public void setUp() throws IOException {
+		eventsResponse = RpcCodecBenchmark.buildEventsResponse(eventCount);
+		perCallJson = convertObjectToJsonString(eventsResponse);
+		cachedJson = messageCodec.encode(eventsResponse, MessageCodec.JSON_CONTENT_TYPE);
+	}
+
+	@Benchmark
+	public String perCallMapperEncode() throws IOException {
+		return convertObjectToJsonString(eventsResponse);
+	}
+
+	@Benchmark
+	public GetAllEventsResponse perCallMapperDecode() throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JavaTimeModule());
+		return objectMapper.readValue(perCallJson, GetAllEventsResponse.class);
+	}
+
+	@Benchmark
+	public byte[] cachedCodecEncode() throws IOException {
+		return messageCodec.encode(eventsResponse, MessageCodec.JSON_CONTENT_TYPE);
+	}
+
+	@Benchmark
+	public GetAllEventsResponse cachedCodecDecode() throws IOException {
+		return messageCodec.decode(cachedJson, MessageCodec.JSON_CONTENT_TYPE, GetAllEventsResponse.class);
+	}
+
+	private String convertObjectToJsonString(Object object) throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+		objectMapper.registerModule(new JavaTimeModule());
+		return objectMapper.writeValueAsString(object);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(MessageCodecCachingBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.microservices.api_gateway;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteMatcherTests {
+
+	@Test
+	void exactSegmentBeatsVariableRegardlessOfRegistrationOrder() {
+		RouteMatcher<String> matcher = new RouteMatcher<String>()
+				.add("GET", "/api/events/{eventId}", "event")
+				.add("GET", "/api/events/search", "search");
+
+		assertEquals("search", matcher.match("GET", "/api/events/search", "fallback"));
+		assertEquals("event", matcher.match("GET", "/api/events/42", "fallback"));
+	}
+
+	@Test
+	void backtracksToVariableWhenExactBranchDoesNotMatch() {
+		RouteMatcher<String> matcher = new RouteMatcher<String>()
+				.add("GET", "/api/events/search/suggestions", "suggestions")
+				.add("GET", "/api/events/{eventId}/tickets", "tickets");
+
+		assertEquals("tickets", matcher.match("GET", "/api/events/search/tickets", "fallback"));
+		assertEquals("suggestions", matcher.match("GET", "/api/events/search/suggestions", "fallback"));
+	}
+
+	@Test
+	void matchesByMethod() {
+		RouteMatcher<String> matcher = new RouteMatcher<String>()
+				.add("GET", "/api/events/{eventId}", "read")
+				.add("DELETE", "/api/events/{eventId}", "delete");
+
+		assertEquals("read", matcher.match("GET", "/api/events/42", "fallback"));
+		assertEquals("delete", matcher.match("DELETE", "/api/events/42", "fallback"));
+		assertEquals("fallback", matcher.match("PUT", "/api/events/42", "fallback"));
+	}
+
+	@Test
+	void ignoresLeadingAndTrailingSlashes() {
+		RouteMatcher<String> matcher = new RouteMatcher<String>()
+				.add("GET", "/api/events", "events");
+
+		assertEquals("events", matcher.match("GET", "api/events/", "fallback"));
+	}
+
+	@Test
+	void returnsFallbackForUnknownOrPartialPaths() {
+		RouteMatcher<String> matcher = new RouteMatcher<String>()
+				.add("GET", "/api/events/{eventId}", "event");
+
+		assertEquals("fallback", matcher.match("GET", "/api/events", "fallback"));
+		assertEquals("fallback", matcher.match("GET", "/api/events/42/tickets", "fallback"));
+		assertEquals("fallback", matcher.match("GET", "/", "fallback"));
+	}
+
+}
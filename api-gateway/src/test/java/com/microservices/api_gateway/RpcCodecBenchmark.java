@@ -0,0 +1,125 @@
+package com.microservices.api_gateway;
+
+import com.microservices.api_gateway.models.Event;
+import com.microservices.api_gateway.models.dto.request.ticket.CreateTicketsRequest;
+import com.microservices.api_gateway.models.dto.request.ticket.CreateTicketsTicketRequest;
+import com.microservices.api_gateway.models.dto.response.event.GetAllEventsResponse;
+import com.microservices.api_gateway.models.enums.EventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RpcCodecBenchmark {
+
+	@Param({MessageCodec.JSON_CONTENT_TYPE, MessageCodec.SMILE_CONTENT_TYPE, MessageCodec.CBOR_CONTENT_TYPE})
+	private String contentType;
+
+	@Param({"50"})
+	private int eventCount;
+
+	private final MessageCodec messageCodec = new MessageCodec();
+
+	private GetAllEventsResponse eventsResponse;
+	private CreateTicketsRequest createTicketsRequest;
+	private byte[] encodedEventsResponse;
+	private byte[] encodedCreateTicketsRequest;
+
+	@Setup
+	public void setUp() throws IOException {
+		eventsResponse = buildEventsResponse(eventCount);
+
+		createTicketsRequest = new CreateTicketsRequest("user-42", IntStream.range(0, 10)
+				.mapToObj(index -> new CreateTicketsTicketRequest("event-" + index, index % 3 == 0 ? "VIP" : "STANDARD", 45 + index))
+				.toList());
+
+		encodedEventsResponse = messageCodec.encode(eventsResponse, contentType);
+		encodedCreateTicketsRequest = messageCodec.encode(createTicketsRequest, contentType);
+
+		System.out.printf("%n%s payload: %d event(s) = %d bytes, CreateTicketsRequest = %d bytes%n",
+				contentType, eventCount, encodedEventsResponse.length, encodedCreateTicketsRequest.length);
+	}
+
+	@Benchmark
+	public byte[] encodeEvents() throws IOException {
+		return messageCodec.encode(eventsResponse, contentType);
+	}
+
+	@Benchmark
+	public GetAllEventsResponse decodeEvents() throws IOException {
+		return messageCodec.decode(encodedEventsResponse, contentType, GetAllEventsResponse.class);
+	}
+
+	@Benchmark
+	public byte[] encodeCreateTicketsRequest() throws IOException {
+		return messageCodec.encode(createTicketsRequest, contentType);
+	}
+
+	@Benchmark
+	public CreateTicketsRequest decodeCreateTicketsRequest() throws IOException {
+		return messageCodec.decode(encodedCreateTicketsRequest, contentType, CreateTicketsRequest.class);
+	}
+
+	static GetAllEventsResponse buildEventsResponse(int eventCount) {
+		return GetAllEventsResponse.builder()
+				.events(IntStream.range(0, eventCount).mapToObj(RpcCodecBenchmark::buildEvent).toList())
+				.eventsFound(eventCount)
+				.totalPages(1)
+				.eventTypeCounts(Map.of("CONCERT", (long) eventCount / 2, "FESTIVAL", (long) eventCount - eventCount / 2))
+				.artistCounts(Map.of("Daft Punk", 12L, "Justice", 8L, "Air", 5L))
+				.build();
+	}
+
+	private static Event buildEvent(int index) {
+		LocalDateTime startTime = LocalDateTime.of(2026, 6, 1, 20, 0).plusDays(index);
+		return Event.builder()
+				.id("67c1f0a2b3d4e5f6a7b8c9" + String.format("%02d", index))
+				.name("Summer Night Live #" + index)
+				.description("Open air concert with three stages, food trucks and an after party until sunrise.")
+				.eventType(index % 2 == 0 ? EventType.CONCERT : EventType.FESTIVAL)
+				.startTime(startTime)
+				.endTime(startTime.plusHours(5))
+				.address("12 Rue de la Musique, 75011 Paris")
+				.organizerId("organizer-" + index % 7)
+				.totalTickets(5000)
+				.availableTickets(4200 - index)
+				.availableStandardTickets(3500)
+				.standardTicketsPrice(45)
+				.availablePremiumTickets(600)
+				.premiumTicketsPrice(90)
+				.availableVIPTickets(100 - index % 10)
+				.VIPTicketsPrice(180)
+				.minimumPrice(45)
+				.imageUrl("https://images.example.com/events/" + index + ".jpg")
+				.artists(List.of("Daft Punk", "Justice", "Air"))
+				.build();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(RpcCodecBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
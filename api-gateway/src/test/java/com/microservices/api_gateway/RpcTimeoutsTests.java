@@ -0,0 +1,26 @@
+package com.microservices.api_gateway;
+
+import com.microservices.api_gateway.configurations.EnvConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RpcTimeoutsTests {
+
+	@Test
+	void prefersTheRoutingKeyThenTheServiceThenTheDefaultTimeout() {
+		EnvConfiguration envConfiguration = new EnvConfiguration();
+		envConfiguration.setRpcDefaultTimeoutMillis(5000);
+		envConfiguration.setRpcRoutingKeyTimeoutMillis(Map.of("event.query.getEventById", 300L));
+		envConfiguration.setRpcServiceTimeoutMillis(Map.of("event", 2000L));
+		RpcTimeouts rpcTimeouts = new RpcTimeouts(envConfiguration);
+
+		assertEquals(300, rpcTimeouts.getTimeoutMillis("event.query.getEventById"));
+		assertEquals(2000, rpcTimeouts.getTimeoutMillis("event.query.getAllEvents"));
+		assertEquals(5000, rpcTimeouts.getTimeoutMillis("ticket.command.createTickets"));
+		assertEquals(5000, rpcTimeouts.getTimeoutMillis("unscoped"));
+	}
+
+}
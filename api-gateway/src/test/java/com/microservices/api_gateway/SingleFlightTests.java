@@ -0,0 +1,124 @@
+package com.microservices.api_gateway;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+	@Test
+	void collapsesConcurrentCallsForTheSameKey() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		CompletableFuture<String> backend = new CompletableFuture<>();
+
+		CompletableFuture<String> first = singleFlight.execute("event.query.getEventById", "42", () -> count(calls, backend));
+		CompletableFuture<String> second = singleFlight.execute("event.query.getEventById", "42", () -> count(calls, backend));
+		assertFalse(first.isDone());
+		assertFalse(second.isDone());
+
+		backend.complete("event-42");
+
+		assertEquals("event-42", first.get(1, TimeUnit.SECONDS));
+		assertEquals("event-42", second.get(1, TimeUnit.SECONDS));
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void keepsDistinctNamesAndKeysApart() {
+		AtomicInteger calls = new AtomicInteger();
+		CompletableFuture<String> backend = new CompletableFuture<>();
+
+		singleFlight.execute("event.query.getEventById", "42", () -> count(calls, backend));
+		singleFlight.execute("event.query.getEventById", "43", () -> count(calls, backend));
+		singleFlight.execute("event.query.getEventSuggestions", "42", () -> count(calls, backend));
+		singleFlight.execute("a:b", "c", () -> count(calls, backend));
+		singleFlight.execute("a", "b:c", () -> count(calls, backend));
+
+		assertEquals(5, calls.get());
+	}
+
+	@Test
+	void runsANewCallOnceTheFlightHasLanded() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+
+		singleFlight.execute("event.query.getEventById", "42", () -> count(calls, CompletableFuture.completedFuture("first"))).get(1, TimeUnit.SECONDS);
+		String second = singleFlight.execute("event.query.getEventById", "42", () -> count(calls, CompletableFuture.completedFuture("second"))).get(1, TimeUnit.SECONDS);
+
+		assertEquals("second", second);
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void propagatesAFailureToEveryCollapsedCaller() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		CompletableFuture<String> backend = new CompletableFuture<>();
+
+		CompletableFuture<String> first = singleFlight.execute("event.query.getEventById", "42", () -> count(calls, backend));
+		CompletableFuture<String> second = singleFlight.execute("event.query.getEventById", "42", () -> count(calls, backend));
+		backend.completeExceptionally(new IllegalStateException("event-service unavailable"));
+
+		assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS)).getCause());
+		assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS)).getCause());
+
+		assertEquals("event-42", singleFlight.execute("event.query.getEventById", "42", () -> count(calls, CompletableFuture.completedFuture("event-42"))).get(1, TimeUnit.SECONDS));
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void failsTheFlightWhenTheCallThrows() throws Exception {
+		CompletableFuture<String> failed = singleFlight.execute("event.query.getEventById", "42", () -> {
+			throw new IllegalArgumentException("bad request");
+		});
+
+		assertTrue(failed.isCompletedExceptionally());
+		assertInstanceOf(IllegalArgumentException.class, assertThrows(ExecutionException.class, failed::get).getCause());
+		assertEquals("event-42", singleFlight.execute("event.query.getEventById", "42", () -> CompletableFuture.completedFuture("event-42")).get(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void cancellingOneCallerLeavesTheOthersWaiting() throws Exception {
+		CompletableFuture<String> backend = new CompletableFuture<>();
+
+		CompletableFuture<String> first = singleFlight.execute("event.query.getEventById", "42", () -> backend);
+		CompletableFuture<String> second = singleFlight.execute("event.query.getEventById", "42", () -> backend);
+		first.cancel(true);
+		backend.complete("event-42");
+
+		assertTrue(first.isCancelled());
+		assertEquals("event-42", second.get(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void countsBackendCallsAndCollapsedRequestsPerOperation() {
+		CompletableFuture<String> backend = new CompletableFuture<>();
+
+		singleFlight.execute("event.query.getEventById", "42", () -> backend);
+		singleFlight.execute("event.query.getEventById", "42", () -> backend);
+		singleFlight.execute("event.query.getEventById", "43", () -> backend);
+		singleFlight.execute("event.query.getAllEvents", "page-0", () -> backend);
+
+		assertEquals(2, meterRegistry.get("gateway.single-flight.backend-calls").tag("operation", "event.query.getEventById").counter().count());
+		assertEquals(1, meterRegistry.get("gateway.single-flight.collapsed").tag("operation", "event.query.getEventById").counter().count());
+		assertEquals(1, meterRegistry.get("gateway.single-flight.backend-calls").tag("operation", "event.query.getAllEvents").counter().count());
+		assertEquals(0, meterRegistry.get("gateway.single-flight.collapsed").tag("operation", "event.query.getAllEvents").counter().count());
+	}
+
+	private <T> CompletableFuture<T> count(AtomicInteger calls, CompletableFuture<T> result) {
+		calls.incrementAndGet();
+		return result;
+	}
+
+}
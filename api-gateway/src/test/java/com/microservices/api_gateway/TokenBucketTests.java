@@ -0,0 +1,126 @@
+package com.microservices.api_gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTests {
+
+	@Test
+	void refillsInProportionToElapsedTime() {
+		TokenBucket bucket = new TokenBucket(10, 0, 1000, 0, 0);
+
+		assertFalse(bucket.tryConsume(1, 0));
+		assertEquals(100, bucket.retryAfterMillis(1, 0));
+
+		assertTrue(bucket.tryConsume(1, 100));
+		assertFalse(bucket.tryConsume(1, 100));
+
+		assertTrue(bucket.tryConsume(10, 5000));
+		assertFalse(bucket.tryConsume(1, 5000));
+	}
+
+	@Test
+	void blocksAnEmptyBucketEvenWhileItRefills() {
+		TokenBucket bucket = new TokenBucket(10, 0, 1000, 500, 0);
+
+		assertFalse(bucket.tryConsume(1, 0));
+		assertFalse(bucket.tryConsume(1, 400));
+		assertEquals(100, bucket.retryAfterMillis(1, 400));
+
+		assertTrue(bucket.tryConsume(1, 500));
+	}
+
+	@Test
+	void doesNotBlockWhenAtLeastOneTokenRemains() {
+		TokenBucket bucket = new TokenBucket(10, 2, 1000, 500, 0);
+
+		assertFalse(bucket.tryConsume(3, 0));
+		assertTrue(bucket.tryConsume(2, 0));
+	}
+
+	@Test
+	void debitDrivesTheBucketNegativeDownToMinusCapacity() {
+		TokenBucket bucket = new TokenBucket(10, 10, 1000, 0, 0);
+
+		bucket.debit(15, 0);
+		assertFalse(bucket.tryConsume(1, 0));
+		assertEquals(600, bucket.retryAfterMillis(1, 0));
+
+		bucket.debit(100, 0);
+		assertEquals(1100, bucket.retryAfterMillis(1, 0));
+		assertEquals(0, bucket.drainUnsyncedConsumption());
+	}
+
+	@Test
+	void concurrentConsumersNeverOverdrawTheBucket() throws Exception {
+		int threads = 8;
+		int attemptsPerThread = 500;
+		TokenBucket bucket = new TokenBucket(1000, 1000, Long.MAX_VALUE, 0, 0);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> results = new ArrayList<>();
+		try {
+			for (int thread = 0; thread < threads; thread++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					int allowed = 0;
+					for (int attempt = 0; attempt < attemptsPerThread; attempt++) {
+						if (bucket.tryConsume(1, 0)) {
+							allowed++;
+						}
+					}
+					return allowed;
+				}));
+			}
+			start.countDown();
+
+			int allowed = 0;
+			for (Future<Integer> result : results) {
+				allowed += result.get(10, TimeUnit.SECONDS);
+			}
+
+			assertEquals(1000, allowed);
+			assertEquals(1000, bucket.drainUnsyncedConsumption());
+			assertEquals(0, bucket.drainUnsyncedConsumption());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void appliesOnlyTheRemoteShareOfTheClusterTotalPerWindow() {
+		TokenBucket bucket = new TokenBucket(10, 10, 1000, 0, 0);
+
+		assertEquals(6, bucket.applyClusterTotal(1, 10, 4));
+		assertEquals(10, bucket.applyClusterTotal(1, 25, 5));
+
+		assertEquals(2, bucket.applyClusterTotal(2, 3, 1));
+		assertEquals(0, bucket.applyClusterTotal(2, 4, 5));
+	}
+
+	@Test
+	void isIdleOnlyWhenFullAndFullySynced() {
+		TokenBucket bucket = new TokenBucket(10, 10, 1000, 0, 0);
+		assertTrue(bucket.isIdle(0));
+
+		assertTrue(bucket.tryConsume(1, 0));
+		assertFalse(bucket.isIdle(1000));
+
+		bucket.drainUnsyncedConsumption();
+		assertFalse(bucket.isIdle(50));
+		assertTrue(bucket.isIdle(100));
+	}
+
+}
@@ -1,7 +1,5 @@
 package com.microservices.authentication_service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.authentication_service.models.request.*;
 import com.microservices.authentication_service.services.EmailValidationService;
 import com.microservices.authentication_service.services.LoginService;
@@ -26,51 +24,56 @@ public class Consumer {
     private final LoginService loginService;
     private final EmailValidationService emailValidationService;
     private final PhoneValidationService phoneValidationService;
-    private final ObjectMapper objectMapper;
+    private final RpcEnvelope rpcEnvelope;
 
     @RabbitListener(
+            containerFactory = "queryListenerContainerFactory",
             bindings = @QueueBinding(
-                    value = @Queue(value = "auth.queue", durable = "true"),
+                    value = @Queue(value = "auth.query.queue", durable = "true"),
                     exchange = @Exchange(value = "auth-exchange", type = ExchangeTypes.TOPIC),
-                    key = "auth.*"
+                    key = "auth.query.*"
             )
     )
-    public String handleAuthRequest(String payload, Message message) {
+    @RabbitListener(
+            containerFactory = "commandListenerContainerFactory",
+            bindings = @QueueBinding(
+                    value = @Queue(value = "auth.command.queue", durable = "true"),
+                    exchange = @Exchange(value = "auth-exchange", type = ExchangeTypes.TOPIC),
+                    key = "auth.command.*"
+            )
+    )
+    public Message handleAuthRequest(Message message) {
         String routingKey = message.getMessageProperties().getReceivedRoutingKey();
 
         try {
             Map<String, String> result = switch (routingKey) {
-                case "auth.register" -> {
-                    RegisterRequest registerRequest = objectMapper.readValue(payload, RegisterRequest.class);
+                case "auth.command.register" -> {
+                    RegisterRequest registerRequest = rpcEnvelope.readRequest(message, RegisterRequest.class);
                     yield registrationService.registerUser(registerRequest);
                 }
-                case "auth.login" -> {
-                    LoginRequest loginRequest = objectMapper.readValue(payload, LoginRequest.class);
+                case "auth.query.login" -> {
+                    LoginRequest loginRequest = rpcEnvelope.readRequest(message, LoginRequest.class);
                     yield loginService.authenticateUser(loginRequest);
                 }
-                case "auth.validateEmail" -> {
-                    ValidateEmailRequest validateEmailRequest = objectMapper.readValue(payload, ValidateEmailRequest.class);
+                case "auth.command.validateEmail" -> {
+                    ValidateEmailRequest validateEmailRequest = rpcEnvelope.readRequest(message, ValidateEmailRequest.class);
                     yield emailValidationService.validateEmail(validateEmailRequest);
                 }
-                case "auth.resendEmailValidation" -> {
-                    ResendEmailValidationRequest resendEmailValidationRequest = objectMapper.readValue(payload, ResendEmailValidationRequest.class);
+                case "auth.command.resendEmailValidation" -> {
+                    ResendEmailValidationRequest resendEmailValidationRequest = rpcEnvelope.readRequest(message, ResendEmailValidationRequest.class);
                     yield emailValidationService.resendValidation(resendEmailValidationRequest);
                 }
-                case "auth.validatePhone" -> {
-                    ValidatePhoneRequest validatePhoneRequest = objectMapper.readValue(payload, ValidatePhoneRequest.class);
+                case "auth.command.validatePhone" -> {
+                    ValidatePhoneRequest validatePhoneRequest = rpcEnvelope.readRequest(message, ValidatePhoneRequest.class);
                     yield phoneValidationService.validatePhone(validatePhoneRequest);
                 }
-                case "auth.sendPhoneValidation" -> phoneValidationService.sendValidationCode();
+                case "auth.command.sendPhoneValidation" -> phoneValidationService.sendValidationCode();
                 default -> throw new IllegalStateException("Unexpected value: " + routingKey);
             };
 
-            return objectMapper.writeValueAsString(result);
+            return rpcEnvelope.toMessage(message, result);
         } catch (Exception e) {
-            try {
-                return objectMapper.writeValueAsString(Map.of("error", e.getMessage()));
-            } catch (JsonProcessingException ex) {
-                return "{\"error\": \"Internal server error\"}";
-            }
+            return rpcEnvelope.error(message, e.getMessage());
         }
     }
 }
@@ -0,0 +1,54 @@
+package com.microservices.authentication_service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+@Component
+@RequiredArgsConstructor
+public class RpcEnvelope {
+
+    public static final String STATUS_HEADER = "rpc-status";
+    public static final String BODY_KIND_HEADER = "rpc-body-kind";
+    public static final String JSON_BODY_KIND = "json";
+    public static final String TEXT_BODY_KIND = "text";
+
+    private final MessageCodec messageCodec;
+
+    public <T> T readRequest(Message request, Class<T> type) throws IOException {
+        return messageCodec.decode(request.getBody(), request.getMessageProperties().getContentType(), type);
+    }
+
+    public Message toMessage(Message request, Map<String, ?> result) {
+        Map.Entry<String, ?> entry = result.entrySet().iterator().next();
+        return buildMessage(request, entry.getKey(), entry.getValue());
+    }
+
+    public Message error(Message request, String errorMessage) {
+        return buildMessage(request, "error", isNull(errorMessage) ? "Internal server error" : errorMessage);
+    }
+
+    private Message buildMessage(Message request, String status, Object value) {
+        String contentType = messageCodec.negotiate(request.getMessageProperties().getContentType());
+        String bodyKind = isNull(value) || value instanceof String ? TEXT_BODY_KIND : JSON_BODY_KIND;
+
+        try {
+            return MessageBuilder.withBody(messageCodec.encode(value, contentType))
+                    .setContentType(contentType)
+                    .setContentEncoding(StandardCharsets.UTF_8.name())
+                    .setHeader(STATUS_HEADER, status)
+                    .setHeader(BODY_KIND_HEADER, bodyKind)
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode RPC response", e);
+        }
+    }
+
+}
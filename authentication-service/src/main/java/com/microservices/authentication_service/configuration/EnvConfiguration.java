@@ -20,4 +20,10 @@ public class EnvConfiguration {
     private String appEmail;
     private String mailModifiedUsername;
     private String jwtSecretKey;
+    private int queryConcurrentConsumers;
+    private int queryMaxConcurrentConsumers;
+    private int queryPrefetchCount;
+    private int commandConcurrentConsumers;
+    private int commandMaxConcurrentConsumers;
+    private int commandPrefetchCount;
 }
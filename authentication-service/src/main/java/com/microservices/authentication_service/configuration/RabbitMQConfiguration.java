@@ -5,12 +5,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.retry.backoff.ExponentialBackOffPolicy;
@@ -54,6 +56,18 @@ public class RabbitMQConfiguration {
         return rabbitTemplate;
     }
 
+    @Bean
+    public SimpleRabbitListenerContainerFactory queryListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return buildListenerContainerFactory(configurer, connectionFactory, envConfiguration.getQueryConcurrentConsumers(),
+                envConfiguration.getQueryMaxConcurrentConsumers(), envConfiguration.getQueryPrefetchCount());
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory commandListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        return buildListenerContainerFactory(configurer, connectionFactory, envConfiguration.getCommandConcurrentConsumers(),
+                envConfiguration.getCommandMaxConcurrentConsumers(), envConfiguration.getCommandPrefetchCount());
+    }
+
     @Bean
     public AmqpAdmin amqpAdmin(ConnectionFactory connectionFactory) {
         return new RabbitAdmin(connectionFactory);
@@ -73,4 +87,14 @@ public class RabbitMQConfiguration {
         template.setBackOffPolicy(new ExponentialBackOffPolicy());
         return template;
     }
+
+    private SimpleRabbitListenerContainerFactory buildListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+                                                                               int concurrentConsumers, int maxConcurrentConsumers, int prefetchCount) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(concurrentConsumers);
+        factory.setMaxConcurrentConsumers(maxConcurrentConsumers);
+        factory.setPrefetchCount(prefetchCount);
+        return factory;
+    }
 }
\ No newline at end of file
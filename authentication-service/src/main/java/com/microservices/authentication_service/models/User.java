@@ -27,4 +27,6 @@ public class User {
     @Builder.Default
     private UserRole role = UserRole.USER;
 
+    private long tokenVersion;
+
 }
\ No newline at end of file
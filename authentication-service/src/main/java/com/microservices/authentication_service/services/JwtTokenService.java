@@ -1,6 +1,7 @@
 package com.microservices.authentication_service.services;
 
 import com.microservices.authentication_service.configuration.EnvConfiguration;
+import com.microservices.authentication_service.models.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -35,13 +36,15 @@ public class JwtTokenService {
                 .compact();
     }
 
-    public String generateToken(String userId) {
+    public String generateToken(User user) {
         Instant now = Instant.now();
         Date expiryDate = Date.from(now.plusMillis(TOKEN_EXPIRATION_TIME));
 
         return Jwts.builder()
-                .setSubject(userId)
+                .setSubject(user.getId())
                 .claim("type", "access")
+                .claim("role", user.getRole().name())
+                .claim("tokenVersion", user.getTokenVersion())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(expiryDate)
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
@@ -37,7 +37,7 @@ public class LoginService {
             return singletonMap("UNAUTHORIZED", "Invalid password");
         }
 
-        return singletonMap("authToken", jwtTokenService.generateToken(user.getId()));
+        return singletonMap("authToken", jwtTokenService.generateToken(user));
     }
 
 }
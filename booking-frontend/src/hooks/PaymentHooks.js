@@ -11,8 +11,7 @@ export async function PayWithCardRequest(paymentData) {
 
     try {
         const formattedData = {
-            eventId: paymentData.eventIds[0],
-            ticketsIds: paymentData.ticketsIds.map(ticket => ticket.id),
+            ticketsIds: paymentData.ticketsIds,
             amount: paymentData.amount
         };
 
@@ -45,8 +44,7 @@ export async function PayWithPaypalRequest(paymentData) {
 
     try {
         const formattedData = {
-            eventId: paymentData.eventIds[0],
-            ticketsIds: paymentData.ticketsIds.map(ticket => ticket.id),
+            ticketsIds: paymentData.ticketsIds,
             amount: paymentData.amount
         };
 
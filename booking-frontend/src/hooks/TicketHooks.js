@@ -10,11 +10,13 @@ export async function CreateTicketsRequest(paymentData) {
     }
 
     try {
-        const tickets = paymentData.ticketsIds.map(ticket => ({
-            eventId: ticket.eventId,
-            ticketCategory: ticket.type,
-            price: ticket.price
-        }));
+        const tickets = paymentData.items.flatMap(item =>
+            Array.from({ length: item.quantity }, () => ({
+                eventId: item.eventId,
+                ticketCategory: item.type,
+                price: item.price
+            }))
+        );
 
         const formattedData = {
             tickets: tickets
@@ -26,23 +26,13 @@ function Cart() {
     const [paymentSuccess, setPaymentSuccess] = useState(false);
     const [error, setError] = useState("");
     const [status, setStatus] = useState("idle");
+    const [ticketHold, setTicketHold] = useState(null);
     const navigate = useNavigate();
 
     const serviceFee = totalPrice * 0.05;
     const totalAmount = totalPrice + serviceFee;
 
-    const eventIds = [...new Set(items.map(item => item.eventId))];
-    const ticketsIds = items.map(item => ({
-        eventId: item.eventId,
-        type: item.type,
-        quantity: item.quantity,
-        price: item.price
-    }));
-    const paymentData = {
-        eventIds,
-        ticketsIds,
-        amount: totalAmount,
-    };
+    const cartKey = JSON.stringify(items.map(item => [item.eventId, item.type, item.quantity, item.price]));
 
     const showNotification = (type, message) => {
         setError(message);
@@ -95,6 +85,28 @@ function Cart() {
                 return;
             }
 
+            let ticketsIds = ticketHold?.cartKey === cartKey ? ticketHold.ticketsIds : null;
+
+            if (!ticketsIds) {
+                const ticketResponse = await CreateTicketsRequest({ items });
+                const heldTickets = ticketResponse?.message;
+
+                if (!ticketResponse || ticketResponse.error || !heldTickets?.ticketIds?.length) {
+                    console.error("Ticket creation failed:", ticketResponse?.error);
+                    showNotification('error', ticketResponse?.error || "Failed to book tickets.");
+                    setIsProcessingPayment(false);
+                    return;
+                }
+
+                ticketsIds = heldTickets.ticketIds;
+                setTicketHold({ cartKey, ticketsIds });
+            }
+
+            const paymentData = {
+                ticketsIds,
+                amount: totalAmount,
+            };
+
             let paymentResponse;
             if (paymentMethod === "card") {
                 paymentResponse = await PayWithCardRequest(paymentData);
@@ -110,6 +122,7 @@ function Cart() {
                 if (errorMessage.includes('401')) {
                     errorMessage = "Authentication required. Please log in again.";
                 } else if (errorMessage.includes('400')) {
+                    setTicketHold(null);
                     errorMessage = "Invalid payment data.";
                 } else if (errorMessage.includes('500')) {
                     errorMessage = "The payment service is temporarily unavailable.";
@@ -120,15 +133,6 @@ function Cart() {
                 return;
             }
 
-            const ticketResponse = await CreateTicketsRequest(paymentData);
-
-            if (!ticketResponse || ticketResponse.error) {
-                console.error("Ticket creation failed:", ticketResponse?.error);
-                showNotification('error', ticketResponse?.error || "Failed to book tickets.");
-                setIsProcessingPayment(false);
-                return;
-            }
-
             setPaymentSuccess(true);
             showNotification('success', 'Payment completed successfully!');
 
@@ -1,8 +1,7 @@
 package com.microservices.event_service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.event_service.models.request.*;
+import com.microservices.event_service.services.EventCacheService;
 import com.microservices.event_service.services.EventCommandService;
 import com.microservices.event_service.services.EventQueryService;
 import lombok.RequiredArgsConstructor;
@@ -22,50 +21,70 @@ public class Consumer {
 
     private final EventCommandService eventCommandService;
     private final EventQueryService eventQueryService;
-    private final ObjectMapper objectMapper;
+    private final EventCacheService eventCacheService;
+    private final RpcEnvelope rpcEnvelope;
 
     @RabbitListener(
+            containerFactory = "queryListenerContainerFactory",
             bindings = @QueueBinding(
-                    value = @Queue(value = "event.queue", durable = "true"),
+                    value = @Queue(value = "event.query.queue", durable = "true"),
                     exchange = @Exchange(value = "event-exchange", type = ExchangeTypes.TOPIC),
-                    key = "event.*"
+                    key = "event.query.*"
             )
     )
-    public String handleAuthRequest(String payload, Message message) {
+    @RabbitListener(
+            containerFactory = "commandListenerContainerFactory",
+            bindings = @QueueBinding(
+                    value = @Queue(value = "event.command.queue", durable = "true"),
+                    exchange = @Exchange(value = "event-exchange", type = ExchangeTypes.TOPIC),
+                    key = "event.command.*"
+            )
+    )
+    public Message handleAuthRequest(Message message) {
         String routingKey = message.getMessageProperties().getReceivedRoutingKey();
 
         try {
-            Map<String, String> result = switch (routingKey) {
-                case "event.createEvent" -> {
-                    CreateEventRequest createEventRequest = objectMapper.readValue(payload, CreateEventRequest.class);
+            Map<String, ?> result = switch (routingKey) {
+                case "event.command.createEvent" -> {
+                    CreateEventRequest createEventRequest = rpcEnvelope.readRequest(message, CreateEventRequest.class);
                     yield eventCommandService.createEvent(createEventRequest);
                 }
-                case "event.deleteEvent" -> {
-                    DeleteEventRequest deleteEventRequest = objectMapper.readValue(payload, DeleteEventRequest.class);
+                case "event.command.deleteEvent" -> {
+                    DeleteEventRequest deleteEventRequest = rpcEnvelope.readRequest(message, DeleteEventRequest.class);
                     yield eventCommandService.deleteEvent(deleteEventRequest);
                 }
-                case "event.getAllEvents" -> {
-                    GetAllEventsRequest getAllEventsRequest = objectMapper.readValue(payload, GetAllEventsRequest.class);
+                case "event.query.getAllEvents" -> {
+                    GetAllEventsRequest getAllEventsRequest = rpcEnvelope.readRequest(message, GetAllEventsRequest.class);
                     yield eventQueryService.getAllEvents(getAllEventsRequest);
                 }
-                case "event.getEventById" -> {
-                    GetEventByIdRequest getEventByIdRequest = objectMapper.readValue(payload, GetEventByIdRequest.class);
+                case "event.query.getEventById" -> {
+                    GetEventByIdRequest getEventByIdRequest = rpcEnvelope.readRequest(message, GetEventByIdRequest.class);
                     yield eventQueryService.getEventById(getEventByIdRequest);
                 }
-                case "event.updateEvent" -> {
-                    UpdateEventRequest updateEventRequest = objectMapper.readValue(payload, UpdateEventRequest.class);
+                case "event.query.getEventSuggestions" -> {
+                    GetEventSuggestionsRequest getEventSuggestionsRequest = rpcEnvelope.readRequest(message, GetEventSuggestionsRequest.class);
+                    yield eventQueryService.getEventSuggestions(getEventSuggestionsRequest);
+                }
+                case "event.command.updateEvent" -> {
+                    UpdateEventRequest updateEventRequest = rpcEnvelope.readRequest(message, UpdateEventRequest.class);
                     yield eventCommandService.updateEvent(updateEventRequest);
                 }
                 default -> throw new IllegalStateException("Unexpected value: " + routingKey);
             };
 
-            return objectMapper.writeValueAsString(result);
+            return rpcEnvelope.toMessage(message, result);
         } catch (Exception e) {
-            try {
-                return objectMapper.writeValueAsString(Map.of("error", e.getMessage()));
-            } catch (JsonProcessingException ex) {
-                return "{\"error\": \"Internal server error\"}";
-            }
+            return rpcEnvelope.error(message, e.getMessage());
         }
     }
+
+    @RabbitListener(
+            bindings = @QueueBinding(
+                    value = @Queue(autoDelete = "true", exclusive = "true"),
+                    exchange = @Exchange(value = "event-changed-exchange", type = ExchangeTypes.FANOUT)
+            )
+    )
+    public void handleEventChanged(String eventId) {
+        eventCacheService.invalidate(eventId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.microservices.event_service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class Producer {
+
+    private static final String EVENT_CHANGED_EXCHANGE = "event-changed-exchange";
+    private static final String EVENT_CHANGED_ROUTING_KEY = "event.changed";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public void publishEventChanged(String eventId) {
+        try {
+            rabbitTemplate.convertAndSend(EVENT_CHANGED_EXCHANGE, EVENT_CHANGED_ROUTING_KEY, eventId);
+        } catch (AmqpException e) {
+            log.warn("Failed to publish event.changed for event {}, cached copies expire with their TTL", eventId, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.microservices.event_service;
+
+import com.microservices.event_service.models.Event;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class SearchKeyNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    public String normalize(String value) {
+        if (isNull(value)) {
+            return null;
+        }
+
+        String withoutDiacritics = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFKD)).replaceAll("");
+        return WHITESPACES.matcher(withoutDiacritics).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    public void applySearchKeys(Event event) {
+        event.setNameKey(normalize(event.getName()));
+        event.setAddressKey(normalize(event.getAddress()));
+        event.setArtistKeys(normalize(event.getArtists()));
+    }
+
+    private List<String> normalize(List<String> values) {
+        return isNull(values) ? null : values.stream().map(this::normalize).toList();
+    }
+
+}
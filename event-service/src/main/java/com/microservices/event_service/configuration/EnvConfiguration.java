@@ -16,4 +16,14 @@ public class EnvConfiguration {
     private String springRabbitmqPassword;
     private String mongoUri;
     private String databaseName;
+    private long eventCacheMaximumSize;
+    private int eventCacheTtlSeconds;
+    private long eventPageCacheMaximumSize;
+    private int eventPageCacheTtlSeconds;
+    private int queryConcurrentConsumers;
+    private int queryMaxConcurrentConsumers;
+    private int queryPrefetchCount;
+    private int commandConcurrentConsumers;
+    private int commandMaxConcurrentConsumers;
+    private int commandPrefetchCount;
 }
@@ -6,14 +6,25 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Collation;
+
+import java.util.List;
 
 @Configuration
 @Profile("!test")
 @RequiredArgsConstructor
 public class MongoConfiguration {
 
+    public static final Collation CASE_INSENSITIVE_COLLATION = Collation.of("en").strength(Collation.ComparisonLevel.secondary());
+
+    private static final List<String> SUPERSEDED_EVENT_INDEXES = List.of("name_ci", "address_ci", "artists_ci");
+
     private final EnvConfiguration envConfiguration;
 
     @Bean
@@ -23,7 +34,28 @@ public class MongoConfiguration {
 
     @Bean
     public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        MongoTemplate mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        ensureIndexes(mongoTemplate);
+        return mongoTemplate;
+    }
+
+    private void ensureIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations eventIndexes = mongoTemplate.indexOps("EVENTS");
+        eventIndexes.ensureIndex(new Index().on("startTime", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)
+                .named("startTime_id").collation(CASE_INSENSITIVE_COLLATION));
+        eventIndexes.ensureIndex(new Index().on("eventType", Sort.Direction.ASC).on("startTime", Sort.Direction.DESC).on("_id", Sort.Direction.DESC)
+                .named("eventType_startTime_id").collation(CASE_INSENSITIVE_COLLATION));
+        eventIndexes.ensureIndex(new Index().on("nameKey", Sort.Direction.ASC)
+                .named("nameKey").collation(CASE_INSENSITIVE_COLLATION));
+        eventIndexes.ensureIndex(new Index().on("addressKey", Sort.Direction.ASC)
+                .named("addressKey").collation(CASE_INSENSITIVE_COLLATION));
+        eventIndexes.ensureIndex(new Index().on("artistKeys", Sort.Direction.ASC)
+                .named("artistKeys").collation(CASE_INSENSITIVE_COLLATION));
+
+        eventIndexes.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .filter(SUPERSEDED_EVENT_INDEXES::contains)
+                .forEach(eventIndexes::dropIndex);
     }
 
 }
@@ -1,19 +1,30 @@
 package com.microservices.event_service.dao;
 
 import com.microservices.event_service.models.Event;
+import com.microservices.event_service.models.EventCursor;
+import com.microservices.event_service.models.EventSearchResult;
+import com.microservices.event_service.models.EventSuggestion;
 import com.microservices.event_service.models.EventType;
 import com.microservices.event_service.models.Filter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.bson.Document;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.microservices.event_service.configuration.MongoConfiguration.CASE_INSENSITIVE_COLLATION;
+import static java.util.Objects.isNull;
+
 @Component
 @RequiredArgsConstructor
 public class EventDao {
@@ -21,6 +32,9 @@ public class EventDao {
     private final MongoTemplate mongoTemplate;
 
     private static final String EVENT_COLLECTION = "EVENTS";
+    private static final int ARTIST_FACET_LIMIT = 20;
+    private static final String PREFIX_UPPER_BOUND = "\uffff";
+    private static final Sort LISTING_SORT = Sort.by(Sort.Direction.DESC, "startTime", "_id");
 
     public void save(Event event) {
         mongoTemplate.save(event, EVENT_COLLECTION);
@@ -34,22 +48,120 @@ public class EventDao {
         mongoTemplate.remove(new Query(Criteria.where("_id").is(eventId)), EVENT_COLLECTION);
     }
 
-    public long countEventsWithRequest(String filter, String filterSearch) {
+    public EventSearchResult searchEventsWithFacets(String filter, String filterSearch, int page, int pageSize) {
         Query query = applyFilters(filter, filterSearch);
-        return mongoTemplate.count(query, Event.class, EVENT_COLLECTION);
+
+        Aggregation aggregation = Aggregation.newAggregation(Event.class,
+                context -> context.getMappedObject(new Document("$match", query.getQueryObject())),
+                Aggregation.sort(LISTING_SORT),
+                Aggregation.facet(Aggregation.skip((long) page * pageSize), Aggregation.limit(pageSize)).as("events")
+                        .and(Aggregation.count().as("total")).as("total")
+                        .and(Aggregation.sortByCount("eventType")).as("eventTypeCounts")
+                        .and(Aggregation.unwind("artists"), Aggregation.sortByCount("artists"), Aggregation.limit(ARTIST_FACET_LIMIT)).as("artistCounts")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).collation(CASE_INSENSITIVE_COLLATION).build());
+
+        Document result = mongoTemplate.aggregate(aggregation, EVENT_COLLECTION, Document.class).getUniqueMappedResult();
+
+        return EventSearchResult.builder()
+                .events(readEvents(result))
+                .eventsFound(readTotal(result))
+                .eventTypeCounts(readCounts(result, "eventTypeCounts"))
+                .artistCounts(readCounts(result, "artistCounts"))
+                .build();
     }
 
-    public List<Event> searchEventsByRequest(String filter, String filterSearch, int page, int pageSize) {
+    public List<Event> searchEventsAfter(String filter, String filterSearch, EventCursor after, int limit) {
         Query query = applyFilters(filter, filterSearch);
 
-        query.with(PageRequest.of(page, pageSize));
+        if (!isNull(after)) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("startTime").lt(after.startTime()),
+                    Criteria.where("startTime").is(after.startTime()).and("_id").lt(after.eventId())
+            ));
+        }
+
+        query.with(LISTING_SORT).limit(limit);
+
+        return mongoTemplate.find(query, Event.class, EVENT_COLLECTION);
+    }
+
+    public List<EventSuggestion> findSuggestions(Filter filter, String prefix, int limit) {
+        return mongoTemplate.find(suggestionsQuery(filter, prefix, limit), EventSuggestion.class, EVENT_COLLECTION);
+    }
+
+    Query suggestionsQuery(Filter filter, String prefix, int limit) {
+        String keyField = switch (filter) {
+            case ARTIST -> "artistKeys";
+            case PLACE -> "addressKey";
+            default -> "nameKey";
+        };
+
+        Query query = new Query(filter == Filter.ARTIST
+                ? Criteria.where(keyField).elemMatch(startsWith(new Criteria(), prefix))
+                : startsWith(Criteria.where(keyField), prefix));
+
+        if (filter == Filter.CONCERT || filter == Filter.FESTIVAL) {
+            query.addCriteria(Criteria.where("eventType").is(EventType.valueOf(filter.name())));
+        }
+
+        query.fields().include("name", "address", "artists", "startTime");
+        return query.with(Sort.by(Sort.Direction.ASC, keyField)).limit(limit).collation(CASE_INSENSITIVE_COLLATION);
+    }
+
+    public List<Event> findWithoutSearchKeys(String afterId, int limit) {
+        Query query = new Query(Criteria.where("nameKey").exists(false));
+        if (!isNull(afterId)) {
+            query.addCriteria(Criteria.where("_id").gt(afterId));
+        }
 
-        query.with(Sort.by(Sort.Direction.DESC, "startTime"));
+        query.with(Sort.by(Sort.Direction.ASC, "_id")).limit(limit);
 
         return mongoTemplate.find(query, Event.class, EVENT_COLLECTION);
     }
 
-    private Query applyFilters(String filter, String filterSearch) {
+    public void updateSearchKeys(Event event) {
+        Update update = new Update()
+                .set("nameKey", event.getNameKey())
+                .set("addressKey", event.getAddressKey())
+                .set("artistKeys", event.getArtistKeys());
+
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(event.getId())), update, EVENT_COLLECTION);
+    }
+
+    public void updateDetails(String eventId, String name, String nameKey, String description, String address, String addressKey) {
+        Update update = new Update();
+        if (!isNull(name)) {
+            update.set("name", name).set("nameKey", nameKey);
+        }
+        if (!isNull(description)) {
+            update.set("description", description);
+        }
+        if (!isNull(address)) {
+            update.set("address", address).set("addressKey", addressKey);
+        }
+
+        mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(eventId)), update, EVENT_COLLECTION);
+    }
+
+    private List<Event> readEvents(Document result) {
+        return result.getList("events", Document.class).stream()
+                .map(document -> mongoTemplate.getConverter().read(Event.class, document))
+                .toList();
+    }
+
+    private long readTotal(Document result) {
+        List<Document> total = result.getList("total", Document.class);
+        return total.isEmpty() ? 0 : total.get(0).get("total", Number.class).longValue();
+    }
+
+    private Map<String, Long> readCounts(Document result, String facet) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        result.getList(facet, Document.class).forEach(bucket ->
+                counts.put(String.valueOf(bucket.get("_id")), bucket.get("count", Number.class).longValue()));
+        return counts;
+    }
+
+    Query applyFilters(String filter, String filterSearch) {
         Query query = new Query();
 
         if (filter != null && !filter.isEmpty()) {
@@ -59,7 +171,7 @@ public class EventDao {
                         Criteria artistsCriteria = Criteria.where("artists").exists(true).not().size(0);
                         if (filterSearch != null && !filterSearch.isEmpty()) {
                             artistsCriteria = artistsCriteria.andOperator(
-                                    Criteria.where("artists").regex("^" + filterSearch, "i")
+                                    Criteria.where("artistKeys").elemMatch(startsWith(new Criteria(), filterSearch))
                             );
                         }
                         query.addCriteria(artistsCriteria);
@@ -67,24 +179,25 @@ public class EventDao {
                     case FESTIVAL:
                         query.addCriteria(Criteria.where("eventType").is(EventType.FESTIVAL));
                         if (filterSearch != null && !filterSearch.isEmpty()) {
-                            query.addCriteria(Criteria.where("name").regex("^" + filterSearch, "i"));
+                            query.addCriteria(startsWith(Criteria.where("nameKey"), filterSearch));
                         }
                         break;
                     case CONCERT:
                         query.addCriteria(Criteria.where("eventType").is(EventType.CONCERT));
                         if (filterSearch != null && !filterSearch.isEmpty()) {
-                            query.addCriteria(Criteria.where("name").regex("^" + filterSearch, "i"));
+                            query.addCriteria(startsWith(Criteria.where("nameKey"), filterSearch));
                         }
                         break;
                     case PLACE:
-                        query.addCriteria(Criteria.where("address").exists(true).ne(""));
                         if (filterSearch != null && !filterSearch.isEmpty()) {
-                            query.addCriteria(Criteria.where("address").regex("^" + filterSearch, "i"));
+                            query.addCriteria(startsWith(Criteria.where("addressKey"), filterSearch));
+                        } else {
+                            query.addCriteria(Criteria.where("address").exists(true).ne(""));
                         }
                         break;
                     case EVENT:
                         if (filterSearch != null && !filterSearch.isEmpty()) {
-                            query.addCriteria(Criteria.where("name").regex("^" + filterSearch, "i"));
+                            query.addCriteria(startsWith(Criteria.where("nameKey"), filterSearch));
                         }
                         break;
                     default:
@@ -92,10 +205,14 @@ public class EventDao {
                 }
             } catch (IllegalArgumentException ignored) {}
         } else if (filterSearch != null && !filterSearch.isEmpty()) {
-            query.addCriteria(Criteria.where("name").regex("^" + filterSearch, "i"));
+            query.addCriteria(startsWith(Criteria.where("nameKey"), filterSearch));
         }
 
-        return query;
+        return query.collation(CASE_INSENSITIVE_COLLATION);
+    }
+
+    private Criteria startsWith(Criteria criteria, String prefix) {
+        return criteria.gte(prefix).lt(prefix + PREFIX_UPPER_BOUND);
     }
 
 }
@@ -1,5 +1,6 @@
 package com.microservices.event_service.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -32,4 +33,10 @@ public class Event {
     private int minimumPrice;
     private String imageUrl;
     private List<String> artists;
+    @JsonIgnore
+    private String nameKey;
+    @JsonIgnore
+    private String addressKey;
+    @JsonIgnore
+    private List<String> artistKeys;
 }
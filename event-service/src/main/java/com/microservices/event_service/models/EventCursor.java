@@ -0,0 +1,29 @@
+package com.microservices.event_service.models;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record EventCursor(LocalDateTime startTime, String eventId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static EventCursor from(Event event) {
+        return new EventCursor(event.getStartTime(), event.getId());
+    }
+
+    public static EventCursor decode(String cursor) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separatorIndex = decoded.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+
+        return new EventCursor(LocalDateTime.parse(decoded.substring(0, separatorIndex)), decoded.substring(separatorIndex + 1));
+    }
+
+    public String encode() {
+        String raw = startTime + SEPARATOR + eventId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
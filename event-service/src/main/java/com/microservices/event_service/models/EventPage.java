@@ -0,0 +1,14 @@
+package com.microservices.event_service.models;
+
+import com.microservices.event_service.models.response.GetAllEventsResponse;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public record EventPage(String status, GetAllEventsResponse response, Map<String, byte[]> encodedBodies) {
+
+    public EventPage(String status, GetAllEventsResponse response) {
+        this(status, response, new ConcurrentHashMap<>());
+    }
+
+}
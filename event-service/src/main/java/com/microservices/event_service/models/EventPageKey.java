@@ -0,0 +1,16 @@
+package com.microservices.event_service.models;
+
+import java.util.Locale;
+
+import static java.util.Objects.isNull;
+
+public record EventPageKey(String filter, String filterSearch, String cursor, int page, int pageSize) {
+
+    public static EventPageKey of(String filter, String filterSearch, String cursor, int page, int pageSize) {
+        return new EventPageKey(normalize(filter), normalize(filterSearch), cursor, page, pageSize);
+    }
+
+    private static String normalize(String value) {
+        return isNull(value) ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
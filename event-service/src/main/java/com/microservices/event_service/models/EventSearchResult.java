@@ -0,0 +1,16 @@
+package com.microservices.event_service.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class EventSearchResult {
+    private List<Event> events;
+    private long eventsFound;
+    private Map<String, Long> eventTypeCounts;
+    private Map<String, Long> artistCounts;
+}
@@ -0,0 +1,19 @@
+package com.microservices.event_service.models;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSuggestion {
+    private String id;
+    private String name;
+    private String address;
+    private List<String> artists;
+    private LocalDateTime startTime;
+}
@@ -0,0 +1,16 @@
+package com.microservices.event_service.models.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetEventSuggestionsRequest {
+    private String query;
+    private String filter;
+    private int limit;
+}
@@ -0,0 +1,17 @@
+package com.microservices.event_service.models.response;
+
+import com.microservices.event_service.models.EventSuggestion;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class GetEventSuggestionsResponse {
+    private List<EventSuggestion> suggestions;
+    private String error;
+}
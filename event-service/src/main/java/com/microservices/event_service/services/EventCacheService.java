@@ -0,0 +1,54 @@
+package com.microservices.event_service.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservices.event_service.configuration.EnvConfiguration;
+import com.microservices.event_service.dao.EventDao;
+import com.microservices.event_service.models.Event;
+import com.microservices.event_service.models.EventPage;
+import com.microservices.event_service.models.EventPageKey;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class EventCacheService {
+
+    private final EventDao eventDao;
+    private final EnvConfiguration envConfiguration;
+
+    private Cache<String, Event> events;
+    private Cache<EventPageKey, EventPage> eventPages;
+
+    @PostConstruct
+    void buildCaches() {
+        events = Caffeine.newBuilder()
+                .maximumSize(envConfiguration.getEventCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(envConfiguration.getEventCacheTtlSeconds()))
+                .build();
+
+        eventPages = Caffeine.newBuilder()
+                .maximumSize(envConfiguration.getEventPageCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(envConfiguration.getEventPageCacheTtlSeconds()))
+                .build();
+    }
+
+    public Optional<Event> findById(String eventId) {
+        return Optional.ofNullable(events.get(eventId, id -> eventDao.findById(id).orElse(null)));
+    }
+
+    public EventPage getEventPage(EventPageKey key, Function<EventPageKey, EventPage> loader) {
+        return eventPages.get(key, loader);
+    }
+
+    public void invalidate(String eventId) {
+        events.invalidate(eventId);
+        eventPages.invalidateAll();
+    }
+
+}
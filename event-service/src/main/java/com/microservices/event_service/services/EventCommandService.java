@@ -1,5 +1,7 @@
 package com.microservices.event_service.services;
 
+import com.microservices.event_service.Producer;
+import com.microservices.event_service.SearchKeyNormalizer;
 import com.microservices.event_service.UuidProvider;
 import com.microservices.event_service.dao.EventDao;
 import com.microservices.event_service.models.Event;
@@ -8,6 +10,8 @@ import com.microservices.event_service.models.request.CreateEventRequest;
 import com.microservices.event_service.models.request.DeleteEventRequest;
 import com.microservices.event_service.models.request.UpdateEventRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -20,8 +24,13 @@ import static java.util.Objects.isNull;
 @RequiredArgsConstructor
 public class EventCommandService {
 
+    private static final int SEARCH_KEY_BACKFILL_BATCH_SIZE = 500;
+
     private final EventDao eventDao;
     private final UuidProvider uuidProvider;
+    private final EventCacheService eventCacheService;
+    private final Producer producer;
+    private final SearchKeyNormalizer searchKeyNormalizer;
 
     public Map<String, String> createEvent(CreateEventRequest request) {
         List<String> errors = new ArrayList<>();
@@ -34,8 +43,10 @@ public class EventCommandService {
         int availableTickets = request.getAvailableStandardTickets() + request.getAvailablePremiumTickets() + request.getAvailableVIPTickets();
 
         Event event = buildEvent(request, availableTickets, eventType);
+        searchKeyNormalizer.applySearchKeys(event);
 
         eventDao.save(event);
+        notifyEventChanged(event.getId());
 
         return singletonMap("message", "Event created successfully");
     }
@@ -58,7 +69,9 @@ public class EventCommandService {
             return singletonMap("BAD_REQUEST", getErrorsAsString(errors));
         }
 
-        eventDao.save(event);
+        searchKeyNormalizer.applySearchKeys(event);
+        eventDao.updateDetails(event.getId(), request.getName(), event.getNameKey(), request.getDescription(), request.getAddress(), event.getAddressKey());
+        notifyEventChanged(event.getId());
 
         return singletonMap("message", "Event with id: " + request.getEventId() + " updated successfully");
     }
@@ -75,10 +88,31 @@ public class EventCommandService {
         }
 
         eventDao.delete(request.getEventId());
+        notifyEventChanged(request.getEventId());
 
         return singletonMap("message", "Event deleted successfully");
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSearchKeys() {
+        String lastEventId = null;
+        List<Event> events = eventDao.findWithoutSearchKeys(lastEventId, SEARCH_KEY_BACKFILL_BATCH_SIZE);
+
+        while (!events.isEmpty()) {
+            for (Event event : events) {
+                searchKeyNormalizer.applySearchKeys(event);
+                eventDao.updateSearchKeys(event);
+                lastEventId = event.getId();
+            }
+            events = eventDao.findWithoutSearchKeys(lastEventId, SEARCH_KEY_BACKFILL_BATCH_SIZE);
+        }
+    }
+
+    private void notifyEventChanged(String eventId) {
+        eventCacheService.invalidate(eventId);
+        producer.publishEventChanged(eventId);
+    }
+
     private Event buildEvent(CreateEventRequest request, int availableTickets, EventType eventType) {
         return Event.builder()
                 .id(uuidProvider.generateUuid())
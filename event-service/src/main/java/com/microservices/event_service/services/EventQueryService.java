@@ -1,20 +1,23 @@
 package com.microservices.event_service.services;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.microservices.event_service.SearchKeyNormalizer;
 import com.microservices.event_service.dao.EventDao;
 import com.microservices.event_service.models.Event;
+import com.microservices.event_service.models.EventCursor;
+import com.microservices.event_service.models.EventPage;
+import com.microservices.event_service.models.EventPageKey;
+import com.microservices.event_service.models.EventSearchResult;
 import com.microservices.event_service.models.Filter;
 import com.microservices.event_service.models.request.GetAllEventsRequest;
 import com.microservices.event_service.models.request.GetEventByIdRequest;
+import com.microservices.event_service.models.request.GetEventSuggestionsRequest;
 import com.microservices.event_service.models.response.GetAllEventsResponse;
 import com.microservices.event_service.models.response.GetEventByIdResponse;
+import com.microservices.event_service.models.response.GetEventSuggestionsResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -26,23 +29,73 @@ import static java.util.Objects.isNull;
 @RequiredArgsConstructor
 public class EventQueryService {
 
+    private static final int DEFAULT_SUGGESTIONS_LIMIT = 5;
+    private static final int MAX_SUGGESTIONS_LIMIT = 20;
+
     private final EventDao eventDao;
+    private final SearchKeyNormalizer searchKeyNormalizer;
+    private final EventCacheService eventCacheService;
 
-    public Map<String, String> getAllEvents(GetAllEventsRequest request) throws JsonProcessingException {
-        GetAllEventsResponse response = GetAllEventsResponse.builder().build();
+    public Map<String, Object> getAllEvents(GetAllEventsRequest request) {
         request.setPageSize(getPageSizeValue(request.getPageSize()));
+        request.setFilterSearch(searchKeyNormalizer.normalize(request.getFilterSearch()));
 
         String error = validateRequest(request);
+        if (!isNull(error)) {
+            GetAllEventsResponse response = GetAllEventsResponse.builder().error(error).build();
+            return singletonMap("BAD_REQUEST", response);
+        }
+
+        EventPageKey key = EventPageKey.of(request.getFilter(), request.getFilterSearch(), request.getCursor(), request.getPage(), request.getPageSize());
+        EventPage eventPage = eventCacheService.getEventPage(key, ignored -> isNull(request.getCursor()) ? loadEventPage(request) : loadEventPageAfterCursor(request));
+
+        return singletonMap(eventPage.status(), eventPage);
+    }
+
+    public Map<String, Object> getEventSuggestions(GetEventSuggestionsRequest request) {
+        GetEventSuggestionsResponse response = GetEventSuggestionsResponse.builder().build();
+        String prefix = searchKeyNormalizer.normalize(request.getQuery());
+        String filter = isNull(request.getFilter()) ? Filter.EVENT.name() : request.getFilter();
+
+        String error = validateSuggestionsRequest(prefix, filter, request.getLimit());
         if (!isNull(error)) {
             response.setError(error);
-            return singletonMap("BAD_REQUEST", convertObjectToJsonString(response));
+            return singletonMap("BAD_REQUEST", response);
         }
 
-        long totalEvents = eventDao.countEventsWithRequest(request.getFilter(), request.getFilterSearch());
-        response.setEventsFound(totalEvents);
+        int limit = (request.getLimit() == 0) ? DEFAULT_SUGGESTIONS_LIMIT : request.getLimit();
+        response.setSuggestions(eventDao.findSuggestions(Filter.valueOf(filter.toUpperCase()), prefix, limit));
+
+        return singletonMap("suggestions", response);
+    }
+
+    public Map<String, Object> getEventById(GetEventByIdRequest request) {
+        Optional<Event> optionalEvent = eventCacheService.findById(request.getEventId());
+        GetEventByIdResponse response = GetEventByIdResponse.builder().build();
+
+        if (optionalEvent.isEmpty()) {
+            response.setError("Event not found");
+            return singletonMap("NOT_FOUND", response);
+        }
+
+        response.setEvent(optionalEvent.get());
+
+        return singletonMap("informations", response);
+    }
+
+    private EventPage loadEventPage(GetAllEventsRequest request) {
+        EventSearchResult searchResult = eventDao.searchEventsWithFacets(request.getFilter(), request.getFilterSearch(), request.getPage(), request.getPageSize());
+
+        long totalEvents = searchResult.getEventsFound();
+        GetAllEventsResponse response = GetAllEventsResponse.builder()
+                .eventsFound(totalEvents)
+                .eventTypeCounts(searchResult.getEventTypeCounts())
+                .artistCounts(searchResult.getArtistCounts())
+                .build();
+
         if (totalEvents == 0) {
             response.setError("No event found");
-            return singletonMap("warning", convertObjectToJsonString(response));
+            return buildEventPage("warning", response);
         }
 
         int totalPages = getTotalPages(totalEvents, request.getPageSize());
@@ -50,28 +103,37 @@ public class EventQueryService {
 
         if (request.getPage() > totalPages) {
             response.setError("Requested page exceeds the total number of available pages");
-            return singletonMap("warning", convertObjectToJsonString(response));
+            return buildEventPage("warning", response);
         }
 
-        List<Event> events = eventDao.searchEventsByRequest(request.getFilter(), request.getFilterSearch(), request.getPage(), request.getPageSize());
+        response.setEvents(searchResult.getEvents());
 
-        response.setEvents(events);
-
-        return singletonMap("events", convertObjectToJsonString(response));
+        return buildEventPage("events", response);
     }
 
-    public Map<String, String> getEventById(GetEventByIdRequest request) throws JsonProcessingException {
-        Optional<Event> optionalEvent = eventDao.findById(request.getEventId());
-        GetEventByIdResponse response = GetEventByIdResponse.builder().build();
+    private EventPage loadEventPageAfterCursor(GetAllEventsRequest request) {
+        EventCursor after = request.getCursor().isEmpty() ? null : EventCursor.decode(request.getCursor());
+        List<Event> events = eventDao.searchEventsAfter(request.getFilter(), request.getFilterSearch(), after, request.getPageSize() + 1);
 
-        if (optionalEvent.isEmpty()) {
-            response.setError("Event not found");
-            return singletonMap("NOT_FOUND", convertObjectToJsonString(response));
+        GetAllEventsResponse response = GetAllEventsResponse.builder().build();
+        if (events.isEmpty()) {
+            response.setError("No event found");
+            return buildEventPage("warning", response);
         }
 
-        response.setEvent(optionalEvent.get());
+        if (events.size() > request.getPageSize()) {
+            events = events.subList(0, request.getPageSize());
+            response.setNextCursor(EventCursor.from(events.get(events.size() - 1)).encode());
+        }
+
+        response.setEvents(events);
+        response.setEventsFound(events.size());
+
+        return buildEventPage("events", response);
+    }
 
-        return singletonMap("informations", convertObjectToJsonString(response));
+    private EventPage buildEventPage(String status, GetAllEventsResponse response) {
+        return new EventPage(status, response);
     }
 
     private int getPageSizeValue(int pageSize) {
@@ -82,6 +144,27 @@ public class EventQueryService {
         if (request.getPage() < 0) return "Page number must be greater than or equal to zero";
         if (!isValidFilter(request.getFilter())) return "Invalid filter provided";
         if (request.getPageSize() < 0) return "Page size must be greater than or equal to zero";
+        if (!isValidCursor(request.getCursor())) return "Invalid cursor provided";
+        return null;
+    }
+
+    private boolean isValidCursor(String cursor) {
+        if (isNull(cursor) || cursor.isEmpty()) {
+            return true;
+        }
+
+        try {
+            EventCursor.decode(cursor);
+            return true;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private String validateSuggestionsRequest(String prefix, String filter, int limit) {
+        if (isNull(prefix) || prefix.isEmpty()) return "Search query must not be empty";
+        if (!isValidFilter(filter)) return "Invalid filter provided";
+        if (limit < 0 || limit > MAX_SUGGESTIONS_LIMIT) return "Limit must be between 0 and " + MAX_SUGGESTIONS_LIMIT;
         return null;
     }
 
@@ -94,16 +177,6 @@ public class EventQueryService {
         return false;
     }
 
-    private String convertObjectToJsonString(Object object) throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        objectMapper.registerModule(new JavaTimeModule());
-
-        return objectMapper.writeValueAsString(object);
-    }
-
     private int getTotalPages(long totalEvents, int pageSize) {
         return (int) Math.ceil((double) totalEvents / pageSize);
     }
@@ -0,0 +1,35 @@
+package com.microservices.event_service;
+
+import com.microservices.event_service.models.Event;
+import com.microservices.event_service.models.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageCodecTests {
+
+	private final MessageCodec messageCodec = new MessageCodec();
+
+	@Test
+	void writesDatesAsIsoStringsAndOmitsNullFields() throws Exception {
+		Event event = Event.builder()
+				.id("event-1")
+				.name("Summer Night Live")
+				.eventType(EventType.CONCERT)
+				.startTime(LocalDateTime.of(2026, 10, 18, 20, 30))
+				.endTime(LocalDateTime.of(2026, 10, 19, 1, 0))
+				.build();
+
+		String json = new String(messageCodec.encode(event, MessageCodec.JSON_CONTENT_TYPE), StandardCharsets.UTF_8);
+
+		assertTrue(json.contains("\"startTime\":\"2026-10-18T20:30:00\""), json);
+		assertTrue(json.contains("\"endTime\":\"2026-10-19T01:00:00\""), json);
+		assertFalse(json.contains("null"), json);
+		assertFalse(json.contains("nameKey"), json);
+	}
+
+}
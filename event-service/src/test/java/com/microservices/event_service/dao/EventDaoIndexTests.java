@@ -0,0 +1,147 @@
+package com.microservices.event_service.dao;
+
+import com.microservices.event_service.models.Event;
+import com.microservices.event_service.models.EventType;
+import com.microservices.event_service.models.Filter;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class EventDaoIndexTests {
+
+	private static final String EVENT_COLLECTION = "EVENTS";
+	private static final int FILLER_EVENTS = 150;
+
+	@Autowired
+	private EventDao eventDao;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	private String organizerId;
+
+	@BeforeEach
+	void createEvents() {
+		organizerId = UUID.randomUUID().toString();
+		LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+
+		List<Event> events = new ArrayList<>();
+		events.add(Event.builder()
+				.id(UUID.randomUUID().toString())
+				.organizerId(organizerId)
+				.name("Index check")
+				.nameKey("index check")
+				.address("Paris")
+				.addressKey("paris")
+				.artists(List.of("Daft Punk"))
+				.artistKeys(List.of("daft punk"))
+				.eventType(EventType.CONCERT)
+				.startTime(startTime)
+				.build());
+		for (int filler = 0; filler < FILLER_EVENTS; filler++) {
+			events.add(Event.builder()
+					.id(UUID.randomUUID().toString())
+					.organizerId(organizerId)
+					.name("Filler " + filler)
+					.nameKey("filler " + filler)
+					.address("Lyon")
+					.addressKey("lyon")
+					.artists(List.of("Justice"))
+					.artistKeys(List.of("justice"))
+					.eventType(EventType.FESTIVAL)
+					.startTime(startTime.plusMinutes(filler + 1))
+					.build());
+		}
+		mongoTemplate.insert(events, EVENT_COLLECTION);
+	}
+
+	@AfterEach
+	void deleteEvents() {
+		mongoTemplate.remove(new Query(Criteria.where("organizerId").is(organizerId)), EVENT_COLLECTION);
+	}
+
+	static Stream<Arguments> listingQueries() {
+		return Stream.of(
+				Arguments.of(Filter.EVENT.name(), null, "startTime_id"),
+				Arguments.of(Filter.EVENT.name(), "ind", "nameKey"),
+				Arguments.of(Filter.CONCERT.name(), null, "eventType_startTime_id"),
+				Arguments.of(Filter.FESTIVAL.name(), "IND", "nameKey"),
+				Arguments.of(Filter.PLACE.name(), "par", "addressKey"),
+				Arguments.of(Filter.ARTIST.name(), "daft", "artistKeys")
+		);
+	}
+
+	static Stream<Arguments> suggestionQueries() {
+		return Stream.of(
+				Arguments.of(Filter.EVENT, "ind", "nameKey"),
+				Arguments.of(Filter.CONCERT, "IND", "nameKey"),
+				Arguments.of(Filter.PLACE, "par", "addressKey"),
+				Arguments.of(Filter.ARTIST, "daft", "artistKeys")
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("listingQueries")
+	void listingQueriesUseTheirFilterIndex(String filter, String filterSearch, String expectedIndex) {
+		Query query = eventDao.applyFilters(filter, filterSearch)
+				.with(Sort.by(Sort.Direction.DESC, "startTime", "_id"))
+				.limit(10);
+
+		assertUsesIndex(query, expectedIndex, filter + " / " + filterSearch);
+	}
+
+	@ParameterizedTest
+	@MethodSource("suggestionQueries")
+	void suggestionQueriesUseTheirKeyIndex(Filter filter, String prefix, String expectedIndex) {
+		assertUsesIndex(eventDao.suggestionsQuery(filter, prefix, 10), expectedIndex, "suggestions " + filter + " / " + prefix);
+	}
+
+	private void assertUsesIndex(Query query, String expectedIndex, String description) {
+		Document mappedQuery = new QueryMapper(mongoTemplate.getConverter())
+				.getMappedObject(query.getQueryObject(), mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Event.class));
+
+		Document explain = mongoTemplate.getCollection(EVENT_COLLECTION)
+				.find(mappedQuery)
+				.collation(query.getCollation().orElseThrow().toMongoCollation())
+				.sort(query.getSortObject())
+				.limit(query.getLimit())
+				.explain();
+
+		Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+		List<String> indexNames = new ArrayList<>();
+		collectIndexScans(winningPlan, indexNames);
+		assertTrue(indexNames.contains(expectedIndex), description + " did not use " + expectedIndex + ": " + winningPlan.toJson());
+	}
+
+	private void collectIndexScans(Object node, List<String> indexNames) {
+		if (node instanceof Document document) {
+			if ("IXSCAN".equals(document.get("stage"))) {
+				indexNames.add(document.getString("indexName"));
+			}
+			document.values().forEach(value -> collectIndexScans(value, indexNames));
+		}
+		if (node instanceof List<?> list) {
+			list.forEach(value -> collectIndexScans(value, indexNames));
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.microservices.event_service.dao;
+
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class EventDaoTests {
+
+	private static final String EVENT_COLLECTION = "EVENTS";
+
+	@Autowired
+	private EventDao eventDao;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	private String eventId;
+
+	@BeforeEach
+	void createEvent() {
+		eventId = UUID.randomUUID().toString();
+		mongoTemplate.getCollection(EVENT_COLLECTION).insertOne(new Document("_id", eventId)
+				.append("name", "Old name")
+				.append("nameKey", "old name")
+				.append("description", "Old description")
+				.append("address", "Paris")
+				.append("addressKey", "paris")
+				.append("availableTickets", 100)
+				.append("availableStandardTickets", 100)
+				.append("stockLeases", List.of(new Document("leaseId", "instance-1:" + eventId + ":STANDARD").append("leased", 50))));
+	}
+
+	@AfterEach
+	void deleteEvent() {
+		mongoTemplate.remove(new Query(Criteria.where("_id").is(eventId)), EVENT_COLLECTION);
+	}
+
+	@Test
+	void updateDetailsWritesOnlyTheEditedFields() {
+		eventDao.findById(eventId).orElseThrow();
+		mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(eventId)),
+				new Update().inc("availableTickets", -3).inc("availableStandardTickets", -3), EVENT_COLLECTION);
+
+		eventDao.updateDetails(eventId, "New name", "new name", null, null, null);
+
+		Document event = mongoTemplate.getCollection(EVENT_COLLECTION).find(new Document("_id", eventId)).first();
+		assertEquals("New name", event.getString("name"));
+		assertEquals("new name", event.getString("nameKey"));
+		assertEquals("Old description", event.getString("description"));
+		assertEquals("Paris", event.getString("address"));
+		assertEquals(97, event.getInteger("availableTickets"));
+		assertEquals(97, event.getInteger("availableStandardTickets"));
+		assertEquals(1, event.getList("stockLeases", Document.class).size());
+	}
+
+}
@@ -1,7 +1,5 @@
 package com.microservices.notification_service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.notification_service.models.request.GetCurrentUserNotificationsRequest;
 import com.microservices.notification_service.models.request.GetUserNotificationsRequest;
 import com.microservices.notification_service.models.request.SendNotificationRequest;
@@ -27,46 +25,51 @@ public class Consumer {
     private final UserNotificationService userNotificationService;
     private final NotificationPreferenceService notificationPreferenceService;
     private final NotificationSenderService notificationSenderService;
-    private final ObjectMapper objectMapper;
+    private final RpcEnvelope rpcEnvelope;
 
     @RabbitListener(
+            containerFactory = "queryListenerContainerFactory",
             bindings = @QueueBinding(
-                    value = @Queue(value = "notification.queue", durable = "true"),
+                    value = @Queue(value = "notification.query.queue", durable = "true"),
                     exchange = @Exchange(value = "notification-exchange", type = ExchangeTypes.TOPIC),
-                    key = "notification.*"
+                    key = "notification.query.*"
             )
     )
-    public String handleAuthRequest(String payload, Message message) {
+    @RabbitListener(
+            containerFactory = "commandListenerContainerFactory",
+            bindings = @QueueBinding(
+                    value = @Queue(value = "notification.command.queue", durable = "true"),
+                    exchange = @Exchange(value = "notification-exchange", type = ExchangeTypes.TOPIC),
+                    key = "notification.command.*"
+            )
+    )
+    public Message handleAuthRequest(Message message) {
         String routingKey = message.getMessageProperties().getReceivedRoutingKey();
 
         try {
-            Map<String, String> result = switch (routingKey) {
-                case "notification.getUserNotifications" -> {
-                    GetUserNotificationsRequest getUserNotificationsRequest = objectMapper.readValue(payload, GetUserNotificationsRequest.class);
+            Map<String, ?> result = switch (routingKey) {
+                case "notification.query.getUserNotifications" -> {
+                    GetUserNotificationsRequest getUserNotificationsRequest = rpcEnvelope.readRequest(message, GetUserNotificationsRequest.class);
                     yield userNotificationService.getUserNotifications(getUserNotificationsRequest);
                 }
-                case "notification.getCurrentUserNotifications" -> {
-                    GetCurrentUserNotificationsRequest getCurrentUserNotificationsRequest = objectMapper.readValue(payload, GetCurrentUserNotificationsRequest.class);
+                case "notification.query.getCurrentUserNotifications" -> {
+                    GetCurrentUserNotificationsRequest getCurrentUserNotificationsRequest = rpcEnvelope.readRequest(message, GetCurrentUserNotificationsRequest.class);
                     yield userNotificationService.getCurrentUserNotifications(getCurrentUserNotificationsRequest);
                 }
-                case "notification.updateNotificationPreferences" -> {
-                    UpdateNotificationPreferencesRequest updateNotificationPreferencesRequest = objectMapper.readValue(payload, UpdateNotificationPreferencesRequest.class);
+                case "notification.command.updateNotificationPreferences" -> {
+                    UpdateNotificationPreferencesRequest updateNotificationPreferencesRequest = rpcEnvelope.readRequest(message, UpdateNotificationPreferencesRequest.class);
                     yield notificationPreferenceService.updateNotificationPreferences(updateNotificationPreferencesRequest);
                 }
-                case "notification.sendNotification" -> {
-                    SendNotificationRequest sendNotificationRequest = objectMapper.readValue(payload, SendNotificationRequest.class);
+                case "notification.command.sendNotification" -> {
+                    SendNotificationRequest sendNotificationRequest = rpcEnvelope.readRequest(message, SendNotificationRequest.class);
                     yield notificationSenderService.sendNotification(sendNotificationRequest);
                 }
                 default -> throw new IllegalStateException("Unexpected value: " + routingKey);
             };
 
-            return objectMapper.writeValueAsString(result);
+            return rpcEnvelope.toMessage(message, result);
         } catch (Exception e) {
-            try {
-                return objectMapper.writeValueAsString(Map.of("error", e.getMessage()));
-            } catch (JsonProcessingException ex) {
-                return "{\"error\": \"Internal server error\"}";
-            }
+            return rpcEnvelope.error(message, e.getMessage());
         }
     }
 }
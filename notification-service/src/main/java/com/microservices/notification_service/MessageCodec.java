@@ -0,0 +1,96 @@
+package com.microservices.notification_service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.microservices.notification_service.models.response.GetCurrentUserNotificationsResponse;
+import com.microservices.notification_service.models.response.GetUserNotificationsResponse;
+import jakarta.annotation.PostConstruct;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class MessageCodec {
+
+    public static final String JSON_CONTENT_TYPE = MessageProperties.CONTENT_TYPE_JSON;
+    public static final String SMILE_CONTENT_TYPE = "application/x-jackson-smile";
+    public static final String CBOR_CONTENT_TYPE = "application/cbor";
+
+    private static final List<Class<?>> RESPONSE_TYPES = List.of(
+            GetCurrentUserNotificationsResponse.class,
+            GetUserNotificationsResponse.class
+    );
+
+    private final Map<String, ObjectMapper> mappers = Map.of(
+            JSON_CONTENT_TYPE, configure(JsonMapper.builder()),
+            SMILE_CONTENT_TYPE, configure(SmileMapper.builder()),
+            CBOR_CONTENT_TYPE, configure(CBORMapper.builder())
+    );
+
+    private final Map<String, Map<Class<?>, ObjectReader>> readers = new ConcurrentHashMap<>();
+    private final Map<String, Map<Class<?>, ObjectWriter>> writers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void warmUp() {
+        for (String contentType : mappers.keySet()) {
+            RESPONSE_TYPES.forEach(type -> getWriter(contentType, type));
+        }
+    }
+
+    public String negotiate(String contentType) {
+        if (isNull(contentType)) {
+            return JSON_CONTENT_TYPE;
+        }
+
+        String mediaType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        return mappers.containsKey(mediaType) ? mediaType : JSON_CONTENT_TYPE;
+    }
+
+    public <T> T decode(byte[] body, String contentType, Class<T> type) throws IOException {
+        return getReader(negotiate(contentType), type).readValue(body);
+    }
+
+    public byte[] encode(Object value, String contentType) throws IOException {
+        String negotiated = negotiate(contentType);
+        if (isNull(value)) {
+            return mappers.get(negotiated).writeValueAsBytes(null);
+        }
+
+        return getWriter(negotiated, value.getClass()).writeValueAsBytes(value);
+    }
+
+    private ObjectReader getReader(String contentType, Class<?> type) {
+        return readers.computeIfAbsent(contentType, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(type, mappers.get(contentType)::readerFor);
+    }
+
+    private ObjectWriter getWriter(String contentType, Class<?> type) {
+        return writers.computeIfAbsent(contentType, ignored -> new ConcurrentHashMap<>())
+                .computeIfAbsent(type, mappers.get(contentType)::writerFor);
+    }
+
+    private static ObjectMapper configure(MapperBuilder<?, ?> builder) {
+        return builder.addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+    }
+
+}
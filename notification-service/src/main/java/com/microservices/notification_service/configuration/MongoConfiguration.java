@@ -6,8 +6,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 
 @Configuration
 @Profile("!test")
@@ -23,7 +26,14 @@ public class MongoConfiguration {
 
     @Bean
     public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        MongoTemplate mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        ensureIndexes(mongoTemplate);
+        return mongoTemplate;
+    }
+
+    private void ensureIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations notificationIndexes = mongoTemplate.indexOps("NOTIFICATIONS");
+        notificationIndexes.ensureIndex(new Index().on("userId", Sort.Direction.ASC).on("sentAt", Sort.Direction.DESC).named("userId_sentAt"));
     }
 
 }
\ No newline at end of file
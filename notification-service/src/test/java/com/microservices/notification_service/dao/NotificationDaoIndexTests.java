@@ -0,0 +1,57 @@
+package com.microservices.notification_service.dao;
+
+import org.bson.Document;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class NotificationDaoIndexTests {
+
+	private static final String NOTIFICATION_COLLECTION = "NOTIFICATIONS";
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	static Stream<Arguments> notificationQueries() {
+		return Stream.of(
+				Arguments.of("getUserNotifications", new Document("userId", "index-check-user"), new Document("sentAt", -1), "userId_sentAt")
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("notificationQueries")
+	void notificationQueriesUseTheirIndex(String description, Document filter, Document sort, String expectedIndex) {
+		Document explain = mongoTemplate.getCollection(NOTIFICATION_COLLECTION)
+				.find(filter)
+				.sort(sort)
+				.explain();
+
+		Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+		List<String> indexNames = new ArrayList<>();
+		collectIndexScans(winningPlan, indexNames);
+		assertTrue(indexNames.contains(expectedIndex), description + " did not use " + expectedIndex + ": " + winningPlan.toJson());
+	}
+
+	private void collectIndexScans(Object node, List<String> indexNames) {
+		if (node instanceof Document document) {
+			if ("IXSCAN".equals(document.get("stage"))) {
+				indexNames.add(document.getString("indexName"));
+			}
+			document.values().forEach(value -> collectIndexScans(value, indexNames));
+		}
+		if (node instanceof List<?> list) {
+			list.forEach(value -> collectIndexScans(value, indexNames));
+		}
+	}
+
+}
@@ -1,10 +1,9 @@
 package com.microservices.payment_service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.payment_service.models.request.PayWithCardRequest;
 import com.microservices.payment_service.models.request.PayWithPaypalRequest;
 import com.microservices.payment_service.services.CardService;
+import com.microservices.payment_service.services.EventCacheService;
 import com.microservices.payment_service.services.PaypalService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.ExchangeTypes;
@@ -23,38 +22,46 @@ public class Consumer {
 
     private final CardService cardService;
     private final PaypalService paypalService;
-    private final ObjectMapper objectMapper;
+    private final EventCacheService eventCacheService;
+    private final RpcEnvelope rpcEnvelope;
 
     @RabbitListener(
+            containerFactory = "commandListenerContainerFactory",
             bindings = @QueueBinding(
-                    value = @Queue(value = "payment.queue", durable = "true"),
+                    value = @Queue(value = "payment.command.queue", durable = "true"),
                     exchange = @Exchange(value = "payment-exchange", type = ExchangeTypes.TOPIC),
-                    key = "payment.*"
+                    key = "payment.command.*"
             )
     )
-    public String handleAuthRequest(String payload, Message message) {
+    public Message handleAuthRequest(Message message) {
         String routingKey = message.getMessageProperties().getReceivedRoutingKey();
 
         try {
             Map<String, String> result = switch (routingKey) {
-                case "payment.payWithPaypal" -> {
-                    PayWithPaypalRequest payWithPaypalRequest = objectMapper.readValue(payload, PayWithPaypalRequest.class);
+                case "payment.command.payWithPaypal" -> {
+                    PayWithPaypalRequest payWithPaypalRequest = rpcEnvelope.readRequest(message, PayWithPaypalRequest.class);
                     yield paypalService.payWithPaypal(payWithPaypalRequest);
                 }
-                case "payment.payWithCard" -> {
-                    PayWithCardRequest payWithCardRequest = objectMapper.readValue(payload, PayWithCardRequest.class);
+                case "payment.command.payWithCard" -> {
+                    PayWithCardRequest payWithCardRequest = rpcEnvelope.readRequest(message, PayWithCardRequest.class);
                     yield cardService.payWithCard(payWithCardRequest);
                 }
                 default -> throw new IllegalStateException("Unexpected value: " + routingKey);
             };
 
-            return objectMapper.writeValueAsString(result);
+            return rpcEnvelope.toMessage(message, result);
         } catch (Exception e) {
-            try {
-                return objectMapper.writeValueAsString(Map.of("error", e.getMessage()));
-            } catch (JsonProcessingException ex) {
-                return "{\"error\": \"Internal server error\"}";
-            }
+            return rpcEnvelope.error(message, e.getMessage());
         }
     }
+
+    @RabbitListener(
+            bindings = @QueueBinding(
+                    value = @Queue(autoDelete = "true", exclusive = "true"),
+                    exchange = @Exchange(value = "event-changed-exchange", type = ExchangeTypes.FANOUT)
+            )
+    )
+    public void handleEventChanged(String eventId) {
+        eventCacheService.invalidate(eventId);
+    }
 }
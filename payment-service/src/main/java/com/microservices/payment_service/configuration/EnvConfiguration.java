@@ -16,4 +16,9 @@ public class EnvConfiguration {
     private String springRabbitmqPassword;
     private String mongoUri;
     private String databaseName;
+    private long eventCacheMaximumSize;
+    private int eventCacheTtlSeconds;
+    private int commandConcurrentConsumers;
+    private int commandMaxConcurrentConsumers;
+    private int commandPrefetchCount;
 }
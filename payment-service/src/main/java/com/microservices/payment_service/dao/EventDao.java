@@ -3,10 +3,10 @@ package com.microservices.payment_service.dao;
 import com.microservices.payment_service.models.Event;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class EventDao {
@@ -15,9 +15,8 @@ public class EventDao {
 
     private static final String EVENT_COLLECTION = "EVENTS";
 
-    public boolean doesNotExistsById(String id) {
-        Query query = new Query(Criteria.where("_id").is(id));
-        return !mongoTemplate.exists(query, Event.class, EVENT_COLLECTION);
+    public Optional<Event> findById(String eventId) {
+        return Optional.ofNullable(mongoTemplate.findById(eventId, Event.class, EVENT_COLLECTION));
     }
 
 }
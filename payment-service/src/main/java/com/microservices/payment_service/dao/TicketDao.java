@@ -1,12 +1,18 @@
 package com.microservices.payment_service.dao;
 
 import com.microservices.payment_service.models.Ticket;
+import com.microservices.payment_service.models.enums.TicketStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class TicketDao {
@@ -20,4 +26,40 @@ public class TicketDao {
         return !mongoTemplate.exists(query, Ticket.class, TICKET_COLLECTION);
     }
 
+    public List<Ticket> findActiveHolds(String userId, List<String> ticketsIds) {
+        Query query = buildActiveHoldsQuery(userId, ticketsIds);
+        query.fields().include("_id", "eventId", "holdExpiresAt");
+        return mongoTemplate.find(query, Ticket.class, TICKET_COLLECTION);
+    }
+
+    public long confirmHeldTickets(String userId, List<String> ticketsIds, String paymentId) {
+        Update update = new Update()
+                .set("status", TicketStatus.VALID)
+                .set("paymentId", paymentId)
+                .unset("holdExpiresAt");
+
+        return mongoTemplate.updateMulti(buildActiveHoldsQuery(userId, ticketsIds), update, TICKET_COLLECTION).getModifiedCount();
+    }
+
+    public void releaseConfirmedTickets(List<Ticket> heldTickets, String paymentId) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class, TICKET_COLLECTION);
+
+        heldTickets.forEach(ticket -> bulkOperations.updateOne(
+                new Query(Criteria.where("_id").is(ticket.getId()).and("paymentId").is(paymentId)),
+                new Update()
+                        .set("status", TicketStatus.HELD)
+                        .set("holdExpiresAt", ticket.getHoldExpiresAt())
+                        .unset("paymentId")
+        ));
+
+        bulkOperations.execute();
+    }
+
+    private Query buildActiveHoldsQuery(String userId, List<String> ticketsIds) {
+        return new Query(Criteria.where("_id").in(ticketsIds)
+                .and("userId").is(userId)
+                .and("status").is(TicketStatus.HELD)
+                .and("holdExpiresAt").gt(LocalDateTime.now()));
+    }
+
 }
@@ -17,7 +17,7 @@ public class Payment {
     @Id
     private String id;
     private String userId;
-    private String eventId;
+    private List<String> eventIds;
     private List<String> ticketsIds;
     private double amount;
     private PaymentMethod paymentMethod;
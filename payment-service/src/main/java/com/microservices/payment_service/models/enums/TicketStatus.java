@@ -1,6 +1,8 @@
 package com.microservices.payment_service.models.enums;
 
 public enum TicketStatus {
+    HELD,
+    EXPIRED,
     VALID,
     USED
 }
\ No newline at end of file
@@ -1,16 +1,17 @@
 package com.microservices.payment_service.services;
 
 import com.microservices.payment_service.UuidProvider;
-import com.microservices.payment_service.dao.EventDao;
 import com.microservices.payment_service.dao.PaymentDao;
 import com.microservices.payment_service.dao.TicketDao;
 import com.microservices.payment_service.dao.UserDao;
 import com.microservices.payment_service.models.Payment;
+import com.microservices.payment_service.models.Ticket;
 import com.microservices.payment_service.models.enums.PaymentMethod;
 import com.microservices.payment_service.models.request.PayWithCardRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -26,17 +27,24 @@ public class CardService {
     private final UuidProvider uuidProvider;
     private final UserDao userDao;
     private final TicketDao ticketDao;
-    private final EventDao eventDao;
+    private final EventCacheService eventCacheService;
     private final Random random = new Random();
 
     public Map<String, String> payWithCard(PayWithCardRequest request) {
-        String validationError = validateIds(request);
+        String validationError = validateRequest(request);
         if (!isNull(validationError)) {
             return singletonMap("BAD_REQUEST", validationError);
         }
 
-        if (request.getAmount() <= 0) {
-            return singletonMap("BAD_REQUEST", "Amount must be greater than 0");
+        List<Ticket> heldTickets = ticketDao.findActiveHolds(request.getUserId(), request.getTicketsIds());
+        if (heldTickets.size() != request.getTicketsIds().size()) {
+            return singletonMap("BAD_REQUEST", "Some tickets are not held for this user or their hold expired, please book your tickets again");
+        }
+
+        List<String> eventIds = getEventIds(heldTickets);
+        String eventError = validateEvents(eventIds);
+        if (!isNull(eventError)) {
+            return singletonMap("BAD_REQUEST", eventError);
         }
 
         int randomValue = random.nextInt(5);
@@ -45,31 +53,65 @@ public class CardService {
             return singletonMap("INTERNAL_SERVER_ERROR", "Payment processing failed. Please try again later.");
         }
 
-        Payment payment = buildPayment(request);
+        Payment payment = buildPayment(request, eventIds);
+
+        if (ticketDao.confirmHeldTickets(request.getUserId(), request.getTicketsIds(), payment.getId()) != heldTickets.size()) {
+            ticketDao.releaseConfirmedTickets(heldTickets, payment.getId());
+            return singletonMap("BAD_REQUEST", "Ticket hold expired before the payment completed, please book your tickets again");
+        }
 
         paymentDao.save(payment);
 
         return singletonMap("message", "Payment processed successfully");
     }
 
-    private Payment buildPayment(PayWithCardRequest request) {
+    private Payment buildPayment(PayWithCardRequest request, List<String> eventIds) {
         return Payment.builder()
                 .id(uuidProvider.generateUuid())
                 .paymentMethod(PaymentMethod.CARD)
                 .userId(request.getUserId())
                 .amount(request.getAmount())
-                .eventId(request.getEventId())
+                .eventIds(eventIds)
                 .ticketsIds(request.getTicketsIds())
                 .build();
     }
 
-    private String validateIds(PayWithCardRequest request) {
+    private String validateRequest(PayWithCardRequest request) {
         if (userDao.doesNotExists(request.getUserId())) {
             return "User with ID " + request.getUserId() + " does not exist";
         }
 
-        if (eventDao.doesNotExistsById(request.getEventId())) {
-            return "Event with ID " + request.getEventId() + " does not exist";
+        if (isNull(request.getTicketsIds()) || request.getTicketsIds().isEmpty()) {
+            return "At least one ticket ID must be provided";
+        }
+
+        if (request.getTicketsIds().contains(null)) {
+            return "Ticket IDs must not be null";
+        }
+
+        if (new HashSet<>(request.getTicketsIds()).size() != request.getTicketsIds().size()) {
+            return "Ticket IDs must not contain duplicates";
+        }
+
+        if (request.getAmount() <= 0) {
+            return "Amount must be greater than 0";
+        }
+
+        return null;
+    }
+
+    private List<String> getEventIds(List<Ticket> heldTickets) {
+        return heldTickets.stream()
+                .map(Ticket::getEventId)
+                .distinct()
+                .toList();
+    }
+
+    private String validateEvents(List<String> eventIds) {
+        for (String eventId : eventIds) {
+            if (eventCacheService.findById(eventId).isEmpty()) {
+                return "Event with ID " + eventId + " does not exist";
+            }
         }
 
         return null;
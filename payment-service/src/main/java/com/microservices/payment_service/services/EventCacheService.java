@@ -0,0 +1,40 @@
+package com.microservices.payment_service.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservices.payment_service.configuration.EnvConfiguration;
+import com.microservices.payment_service.dao.EventDao;
+import com.microservices.payment_service.models.Event;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class EventCacheService {
+
+    private final EventDao eventDao;
+    private final EnvConfiguration envConfiguration;
+
+    private Cache<String, Event> events;
+
+    @PostConstruct
+    void buildCache() {
+        events = Caffeine.newBuilder()
+                .maximumSize(envConfiguration.getEventCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(envConfiguration.getEventCacheTtlSeconds()))
+                .build();
+    }
+
+    public Optional<Event> findById(String eventId) {
+        return Optional.ofNullable(events.get(eventId, id -> eventDao.findById(id).orElse(null)));
+    }
+
+    public void invalidate(String eventId) {
+        events.invalidate(eventId);
+    }
+
+}
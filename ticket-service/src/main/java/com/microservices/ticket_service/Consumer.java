@@ -1,11 +1,10 @@
 package com.microservices.ticket_service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.ticket_service.models.request.CancelTicketRequest;
 import com.microservices.ticket_service.models.request.CreateTicketsRequest;
 import com.microservices.ticket_service.models.request.GetCurrentUserTicketsRequest;
 import com.microservices.ticket_service.models.request.ValidateTicketRequest;
+import com.microservices.ticket_service.services.EventCacheService;
 import com.microservices.ticket_service.services.TicketCreationService;
 import com.microservices.ticket_service.services.TicketManagementService;
 import com.microservices.ticket_service.services.TicketRetrievalService;
@@ -27,46 +26,62 @@ public class Consumer {
     private final TicketCreationService ticketCreationService;
     private final TicketManagementService ticketManagementService;
     private final TicketRetrievalService ticketRetrievalService;
-    private final ObjectMapper objectMapper;
+    private final EventCacheService eventCacheService;
+    private final RpcEnvelope rpcEnvelope;
 
     @RabbitListener(
+            containerFactory = "queryListenerContainerFactory",
             bindings = @QueueBinding(
-                    value = @Queue(value = "ticket.queue", durable = "true"),
+                    value = @Queue(value = "ticket.query.queue", durable = "true"),
                     exchange = @Exchange(value = "ticket-exchange", type = ExchangeTypes.TOPIC),
-                    key = "ticket.*"
+                    key = "ticket.query.*"
             )
     )
-    public String handleAuthRequest(String payload, Message message) {
+    @RabbitListener(
+            containerFactory = "commandListenerContainerFactory",
+            bindings = @QueueBinding(
+                    value = @Queue(value = "ticket.command.queue", durable = "true"),
+                    exchange = @Exchange(value = "ticket-exchange", type = ExchangeTypes.TOPIC),
+                    key = "ticket.command.*"
+            )
+    )
+    public Message handleAuthRequest(Message message) {
         String routingKey = message.getMessageProperties().getReceivedRoutingKey();
 
         try {
-            Map<String, String> result = switch (routingKey) {
-                case "ticket.createTickets" -> {
-                    CreateTicketsRequest createTicketsRequest = objectMapper.readValue(payload, CreateTicketsRequest.class);
+            Map<String, ?> result = switch (routingKey) {
+                case "ticket.command.createTickets" -> {
+                    CreateTicketsRequest createTicketsRequest = rpcEnvelope.readRequest(message, CreateTicketsRequest.class);
                     yield ticketCreationService.createTickets(createTicketsRequest);
                 }
-                case "ticket.getCurrentUserTickets" -> {
-                    GetCurrentUserTicketsRequest getCurrentUserTicketsRequest = objectMapper.readValue(payload, GetCurrentUserTicketsRequest.class);
+                case "ticket.query.getCurrentUserTickets" -> {
+                    GetCurrentUserTicketsRequest getCurrentUserTicketsRequest = rpcEnvelope.readRequest(message, GetCurrentUserTicketsRequest.class);
                     yield ticketRetrievalService.getCurrentUserTickets(getCurrentUserTicketsRequest);
                 }
-                case "ticket.cancelTicket" -> {
-                    CancelTicketRequest cancelTicketRequest = objectMapper.readValue(payload, CancelTicketRequest.class);
+                case "ticket.command.cancelTicket" -> {
+                    CancelTicketRequest cancelTicketRequest = rpcEnvelope.readRequest(message, CancelTicketRequest.class);
                     yield ticketManagementService.cancelTicket(cancelTicketRequest);
                 }
-                case "ticket.validateTicket" -> {
-                    ValidateTicketRequest validateTicketRequest = objectMapper.readValue(payload, ValidateTicketRequest.class);
+                case "ticket.command.validateTicket" -> {
+                    ValidateTicketRequest validateTicketRequest = rpcEnvelope.readRequest(message, ValidateTicketRequest.class);
                     yield ticketManagementService.validateTicket(validateTicketRequest);
                 }
                 default -> throw new IllegalStateException("Unexpected value: " + routingKey);
             };
 
-            return objectMapper.writeValueAsString(result);
+            return rpcEnvelope.toMessage(message, result);
         } catch (Exception e) {
-            try {
-                return objectMapper.writeValueAsString(Map.of("error", e.getMessage()));
-            } catch (JsonProcessingException ex) {
-                return "{\"error\": \"Internal server error\"}";
-            }
+            return rpcEnvelope.error(message, e.getMessage());
         }
     }
+
+    @RabbitListener(
+            bindings = @QueueBinding(
+                    value = @Queue(autoDelete = "true", exclusive = "true"),
+                    exchange = @Exchange(value = "event-changed-exchange", type = ExchangeTypes.FANOUT)
+            )
+    )
+    public void handleEventChanged(String eventId) {
+        eventCacheService.invalidate(eventId);
+    }
 }
\ No newline at end of file
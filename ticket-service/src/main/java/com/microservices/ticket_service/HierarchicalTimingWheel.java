@@ -0,0 +1,97 @@
+package com.microservices.ticket_service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long[] levelSpans;
+    private final List<List<List<Entry<T>>>> levels = new ArrayList<>();
+    private final List<T> dueValues = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levelCount, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levelSpans = new long[levelCount];
+        this.currentTick = startMs / tickMs;
+
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            levelSpans[level] = span;
+            span *= wheelSize;
+
+            List<List<Entry<T>>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new ArrayList<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    public synchronized void schedule(T value, long expirationMs) {
+        place(new Entry<>(value, expirationMs / tickMs));
+        size++;
+    }
+
+    public synchronized List<T> advance(long nowMs) {
+        long targetTick = nowMs / tickMs;
+
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            drain(levels.get(0).get((int) (currentTick % wheelSize)));
+        }
+
+        List<T> expiredValues = new ArrayList<>(dueValues);
+        dueValues.clear();
+        size -= expiredValues.size();
+        return expiredValues;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void cascade() {
+        for (int level = levelSpans.length - 1; level > 0; level--) {
+            if (currentTick % levelSpans[level] != 0) {
+                continue;
+            }
+
+            List<Entry<T>> slot = levels.get(level).get((int) ((currentTick / levelSpans[level]) % wheelSize));
+            List<Entry<T>> entries = new ArrayList<>(slot);
+            slot.clear();
+            entries.forEach(this::place);
+        }
+    }
+
+    private void drain(List<Entry<T>> slot) {
+        slot.forEach(entry -> dueValues.add(entry.value));
+        slot.clear();
+    }
+
+    private void place(Entry<T> entry) {
+        long remainingTicks = entry.expirationTick - currentTick;
+        if (remainingTicks <= 0) {
+            dueValues.add(entry.value);
+            return;
+        }
+
+        int level = 0;
+        while (level < levelSpans.length - 1 && remainingTicks >= levelSpans[level] * wheelSize) {
+            level++;
+        }
+
+        int slot = (int) ((entry.expirationTick / levelSpans[level]) % wheelSize);
+        levels.get(level).get(slot).add(entry);
+    }
+
+    private record Entry<T>(T value, long expirationTick) {
+    }
+
+}
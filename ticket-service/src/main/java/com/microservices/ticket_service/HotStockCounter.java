@@ -0,0 +1,99 @@
+package com.microservices.ticket_service;
+
+import com.microservices.ticket_service.models.TicketCategory;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Getter
+public final class HotStockCounter {
+
+    private final String leaseId;
+    private final String eventId;
+    private final TicketCategory ticketCategory;
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong remaining;
+
+    @Getter(AccessLevel.NONE)
+    private final LongAdder sold = new LongAdder();
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong inFlight = new AtomicLong();
+
+    private volatile long servingUntil;
+    private volatile boolean closed;
+
+    public HotStockCounter(String leaseId, String eventId, TicketCategory ticketCategory, long remaining, long servingUntil) {
+        this.leaseId = leaseId;
+        this.eventId = eventId;
+        this.ticketCategory = ticketCategory;
+        this.remaining = new AtomicLong(remaining);
+        this.servingUntil = servingUntil;
+    }
+
+    public boolean tryTake(int quantity) {
+        if (!isServing()) {
+            return false;
+        }
+
+        long current;
+        do {
+            current = remaining.get();
+            if (current < quantity) {
+                return false;
+            }
+        } while (!remaining.compareAndSet(current, current - quantity));
+
+        sold.add(quantity);
+        inFlight.addAndGet(quantity);
+        return true;
+    }
+
+    public void settle(int quantity) {
+        inFlight.addAndGet(-quantity);
+    }
+
+    public void give(long quantity) {
+        remaining.addAndGet(quantity);
+    }
+
+    public void giveBack(int quantity) {
+        sold.add(-quantity);
+        inFlight.addAndGet(-quantity);
+        remaining.addAndGet(quantity);
+    }
+
+    public void extendServing(long until) {
+        servingUntil = until;
+    }
+
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isServing() {
+        return !closed && System.currentTimeMillis() < servingUntil;
+    }
+
+    public long drain() {
+        return remaining.getAndSet(0);
+    }
+
+    public long getRemaining() {
+        return remaining.get();
+    }
+
+    public long getSold() {
+        return sold.sum();
+    }
+
+    public long getInFlight() {
+        return inFlight.get();
+    }
+
+}
@@ -16,4 +16,18 @@ public class EnvConfiguration {
     private String springRabbitmqPassword;
     private String mongoUri;
     private String databaseName;
+    private String instanceId;
+    private String hotEventIds;
+    private int hotEventLeaseSize;
+    private long hotEventLeaseHeartbeatMillis;
+    private int hotEventLeaseStaleSeconds;
+    private int ticketHoldTtlSeconds;
+    private long eventCacheMaximumSize;
+    private int eventCacheTtlSeconds;
+    private int queryConcurrentConsumers;
+    private int queryMaxConcurrentConsumers;
+    private int queryPrefetchCount;
+    private int commandConcurrentConsumers;
+    private int commandMaxConcurrentConsumers;
+    private int commandPrefetchCount;
 }
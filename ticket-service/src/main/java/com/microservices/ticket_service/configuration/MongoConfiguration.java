@@ -6,8 +6,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 
 @Configuration
 @Profile("!test")
@@ -23,7 +26,19 @@ public class MongoConfiguration {
 
     @Bean
     public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        MongoTemplate mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        ensureIndexes(mongoTemplate);
+        return mongoTemplate;
+    }
+
+    private void ensureIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations ticketIndexes = mongoTemplate.indexOps("TICKETS");
+        ticketIndexes.ensureIndex(new Index().on("userId", Sort.Direction.ASC).named("userId"));
+        ticketIndexes.ensureIndex(new Index().on("status", Sort.Direction.ASC).on("holdExpiresAt", Sort.Direction.ASC).named("status_holdExpiresAt"));
+        ticketIndexes.ensureIndex(new Index().on("leaseId", Sort.Direction.ASC).named("leaseId").sparse());
+
+        IndexOperations eventIndexes = mongoTemplate.indexOps("EVENTS");
+        eventIndexes.ensureIndex(new Index().on("stockLeases.heartbeatAt", Sort.Direction.ASC).named("stockLeases_heartbeatAt").sparse());
     }
 
 }
@@ -1,10 +1,20 @@
 package com.microservices.ticket_service.dao;
 
 import com.microservices.ticket_service.models.Event;
+import com.microservices.ticket_service.models.StockLease;
+import com.microservices.ticket_service.models.TicketCategory;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -14,9 +24,108 @@ public class EventDao {
     private final MongoTemplate mongoTemplate;
 
     private static final String EVENT_COLLECTION = "EVENTS";
+    private static final String STOCK_LEASES_FIELD = "stockLeases";
 
     public Optional<Event> findById(String eventId) {
         return Optional.ofNullable(mongoTemplate.findById(eventId, Event.class, EVENT_COLLECTION));
     }
 
+    public List<Event> findAllById(Collection<String> eventIds) {
+        return mongoTemplate.find(new Query(Criteria.where("_id").in(eventIds)), Event.class, EVENT_COLLECTION);
+    }
+
+    public boolean reserveTickets(String eventId, TicketCategory ticketCategory, int quantity) {
+        String availableCategoryField = getAvailableTicketsField(ticketCategory);
+
+        Query query = new Query(Criteria.where("_id").is(eventId).and(availableCategoryField).gte(quantity));
+        Update update = new Update()
+                .inc(availableCategoryField, -quantity)
+                .inc("availableTickets", -quantity);
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Event.class, EVENT_COLLECTION) != null;
+    }
+
+    public void releaseTickets(String eventId, TicketCategory ticketCategory, int quantity) {
+        Query query = new Query(Criteria.where("_id").is(eventId));
+        Update update = new Update()
+                .inc(getAvailableTicketsField(ticketCategory), quantity)
+                .inc("availableTickets", quantity);
+
+        mongoTemplate.updateFirst(query, update, EVENT_COLLECTION);
+    }
+
+    public void addStockLease(String eventId, StockLease stockLease) {
+        Query query = new Query(Criteria.where("_id").is(eventId).and(STOCK_LEASES_FIELD + ".leaseId").ne(stockLease.getLeaseId()));
+        mongoTemplate.updateFirst(query, new Update().push(STOCK_LEASES_FIELD, stockLease), EVENT_COLLECTION);
+    }
+
+    public Optional<StockLease> findStockLease(String eventId, String leaseId) {
+        Query query = new Query(Criteria.where("_id").is(eventId));
+        query.fields().elemMatch(STOCK_LEASES_FIELD, Criteria.where("leaseId").is(leaseId));
+
+        return Optional.ofNullable(mongoTemplate.findOne(query, Event.class, EVENT_COLLECTION))
+                .map(Event::getStockLeases)
+                .flatMap(stockLeases -> stockLeases.stream().findFirst());
+    }
+
+    public boolean reserveLeasedTickets(String eventId, String leaseId, TicketCategory ticketCategory, long quantity) {
+        String availableCategoryField = getAvailableTicketsField(ticketCategory);
+
+        Query query = new Query(Criteria.where("_id").is(eventId)
+                .and(availableCategoryField).gte(quantity)
+                .and(STOCK_LEASES_FIELD + ".leaseId").is(leaseId));
+        Update update = new Update()
+                .inc(availableCategoryField, -quantity)
+                .inc("availableTickets", -quantity)
+                .inc(STOCK_LEASES_FIELD + ".$.leased", quantity)
+                .set(STOCK_LEASES_FIELD + ".$.heartbeatAt", LocalDateTime.now());
+
+        return mongoTemplate.updateFirst(query, update, EVENT_COLLECTION).getModifiedCount() > 0;
+    }
+
+    public void releaseLeasedTickets(String eventId, String leaseId, TicketCategory ticketCategory, long quantity) {
+        Query query = new Query(Criteria.where("_id").is(eventId).and(STOCK_LEASES_FIELD + ".leaseId").is(leaseId));
+        Update update = new Update()
+                .inc(getAvailableTicketsField(ticketCategory), quantity)
+                .inc("availableTickets", quantity)
+                .inc(STOCK_LEASES_FIELD + ".$.leased", -quantity);
+
+        if (mongoTemplate.updateFirst(query, update, EVENT_COLLECTION).getModifiedCount() == 0) {
+            releaseTickets(eventId, ticketCategory, (int) quantity);
+        }
+    }
+
+    public boolean renewStockLease(String eventId, String leaseId, LocalDateTime now) {
+        Query query = new Query(Criteria.where("_id").is(eventId).and(STOCK_LEASES_FIELD + ".leaseId").is(leaseId));
+        return mongoTemplate.updateFirst(query, new Update().set(STOCK_LEASES_FIELD + ".$.heartbeatAt", now), EVENT_COLLECTION).getMatchedCount() > 0;
+    }
+
+    public List<Event> findEventsWithStaleStockLeases(LocalDateTime staleBefore) {
+        Query query = new Query(Criteria.where(STOCK_LEASES_FIELD).elemMatch(Criteria.where("heartbeatAt").lt(staleBefore)));
+        query.fields().include("_id", STOCK_LEASES_FIELD);
+        return mongoTemplate.find(query, Event.class, EVENT_COLLECTION);
+    }
+
+    public boolean reclaimStockLease(String eventId, StockLease stockLease, long unsold) {
+        String availableCategoryField = getAvailableTicketsField(stockLease.getTicketCategory());
+
+        Query query = new Query(Criteria.where("_id").is(eventId).and(STOCK_LEASES_FIELD).elemMatch(Criteria.where("leaseId").is(stockLease.getLeaseId())
+                .and("leased").is(stockLease.getLeased())
+                .and("heartbeatAt").is(stockLease.getHeartbeatAt())));
+        Update update = new Update()
+                .inc(availableCategoryField, unsold)
+                .inc("availableTickets", unsold)
+                .pull(STOCK_LEASES_FIELD, new Document("leaseId", stockLease.getLeaseId()));
+
+        return mongoTemplate.updateFirst(query, update, EVENT_COLLECTION).getModifiedCount() > 0;
+    }
+
+    private String getAvailableTicketsField(TicketCategory ticketCategory) {
+        return switch (ticketCategory) {
+            case STANDARD -> "availableStandardTickets";
+            case PREMIUM -> "availablePremiumTickets";
+            case VIP -> "availableVIPTickets";
+        };
+    }
+
 }
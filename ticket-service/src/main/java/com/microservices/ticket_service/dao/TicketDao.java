@@ -1,12 +1,17 @@
 package com.microservices.ticket_service.dao;
 
 import com.microservices.ticket_service.models.Ticket;
+import com.microservices.ticket_service.models.TicketStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +27,19 @@ public class TicketDao {
         mongoTemplate.save(ticket, TICKET_COLLECTION);
     }
 
+    public List<Integer> insertAll(List<Ticket> tickets) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Ticket.class, TICKET_COLLECTION)
+                    .insert(tickets)
+                    .execute();
+            return List.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors().stream()
+                    .map(error -> error.getIndex() + 1)
+                    .toList();
+        }
+    }
+
     public Optional<Ticket> findById(String ticketId) {
         return Optional.ofNullable(mongoTemplate.findById(ticketId, Ticket.class, TICKET_COLLECTION));
     }
@@ -30,8 +48,46 @@ public class TicketDao {
         mongoTemplate.remove(new Query(Criteria.where("_id").is(ticketId)), TICKET_COLLECTION);
     }
 
+    public void deleteAll(List<String> ticketIds) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").in(ticketIds)), TICKET_COLLECTION);
+    }
+
+    public boolean deleteWithStatus(String ticketId, TicketStatus status) {
+        Query query = new Query(Criteria.where("_id").is(ticketId).and("status").is(status));
+        return mongoTemplate.remove(query, TICKET_COLLECTION).getDeletedCount() > 0;
+    }
+
     public List<Ticket> getUserTickets(String userId) {
         Query query = new Query(Criteria.where("userId").is(userId));
         return mongoTemplate.find(query, Ticket.class, TICKET_COLLECTION);
     }
+
+    public long countByLeaseId(String leaseId) {
+        Query query = new Query(Criteria.where("leaseId").is(leaseId));
+        return mongoTemplate.count(query, TICKET_COLLECTION);
+    }
+
+    public List<Ticket> findActiveHolds() {
+        Query query = new Query(Criteria.where("status").is(TicketStatus.HELD));
+        query.fields().include("_id", "holdExpiresAt");
+        return mongoTemplate.find(query, Ticket.class, TICKET_COLLECTION);
+    }
+
+    public List<Ticket> findOverdueHolds(LocalDateTime now, int limit) {
+        Query query = new Query(Criteria.where("status").in(TicketStatus.HELD, TicketStatus.EXPIRED).and("holdExpiresAt").lte(now)).limit(limit);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Ticket.class, TICKET_COLLECTION);
+    }
+
+    public void markHoldsExpired(List<String> ticketIds, LocalDateTime now) {
+        Query query = new Query(Criteria.where("_id").in(ticketIds)
+                .and("status").is(TicketStatus.HELD)
+                .and("holdExpiresAt").lte(now));
+        mongoTemplate.updateMulti(query, new Update().set("status", TicketStatus.EXPIRED), TICKET_COLLECTION);
+    }
+
+    public Optional<Ticket> removeExpiredHold(String ticketId) {
+        Query query = new Query(Criteria.where("_id").is(ticketId).and("status").is(TicketStatus.EXPIRED));
+        return Optional.ofNullable(mongoTemplate.findAndRemove(query, Ticket.class, TICKET_COLLECTION));
+    }
 }
@@ -32,4 +32,5 @@ public class Event {
     private int minimumPrice;
     private String imageUrl;
     private List<String> artists;
+    private List<StockLease> stockLeases;
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.microservices.ticket_service.models;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+public class StockLease {
+
+    private String leaseId;
+    private String instanceId;
+    private TicketCategory ticketCategory;
+    private long leased;
+    private LocalDateTime heartbeatAt;
+}
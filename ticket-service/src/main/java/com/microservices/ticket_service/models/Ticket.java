@@ -1,5 +1,6 @@
 package com.microservices.ticket_service.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -22,6 +23,10 @@ public class Ticket {
     @Builder.Default
     private TicketStatus status = TicketStatus.VALID;
 
+    private LocalDateTime holdExpiresAt;
     private LocalDateTime scanTime;
     private String qrCodeData;
+
+    @JsonIgnore
+    private String leaseId;
 }
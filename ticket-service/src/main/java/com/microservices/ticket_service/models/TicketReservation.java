@@ -0,0 +1,14 @@
+package com.microservices.ticket_service.models;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+public class TicketReservation {
+    private String eventId;
+    private TicketCategory ticketCategory;
+    private int quantity;
+}
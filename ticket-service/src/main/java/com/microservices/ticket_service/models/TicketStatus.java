@@ -1,6 +1,8 @@
 package com.microservices.ticket_service.models;
 
 public enum TicketStatus {
+    HELD,
+    EXPIRED,
     VALID,
     USED
 }
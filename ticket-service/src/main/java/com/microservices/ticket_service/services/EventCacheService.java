@@ -0,0 +1,51 @@
+package com.microservices.ticket_service.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservices.ticket_service.configuration.EnvConfiguration;
+import com.microservices.ticket_service.dao.EventDao;
+import com.microservices.ticket_service.models.Event;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class EventCacheService {
+
+    private final EventDao eventDao;
+    private final EnvConfiguration envConfiguration;
+
+    private Cache<String, Event> events;
+
+    @PostConstruct
+    void buildCache() {
+        events = Caffeine.newBuilder()
+                .maximumSize(envConfiguration.getEventCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(envConfiguration.getEventCacheTtlSeconds()))
+                .build();
+    }
+
+    public Optional<Event> findById(String eventId) {
+        return Optional.ofNullable(events.get(eventId, id -> eventDao.findById(id).orElse(null)));
+    }
+
+    public Set<String> findExistingIds(Collection<String> eventIds) {
+        return events.getAll(eventIds, missingIds -> eventDao.findAllById(List.copyOf(missingIds)).stream()
+                        .collect(Collectors.toMap(Event::getId, Function.identity())))
+                .keySet();
+    }
+
+    public void invalidate(String eventId) {
+        events.invalidate(eventId);
+    }
+
+}
@@ -0,0 +1,260 @@
+package com.microservices.ticket_service.services;
+
+import com.microservices.ticket_service.HotStockCounter;
+import com.microservices.ticket_service.configuration.EnvConfiguration;
+import com.microservices.ticket_service.dao.EventDao;
+import com.microservices.ticket_service.dao.TicketDao;
+import com.microservices.ticket_service.models.Event;
+import com.microservices.ticket_service.models.StockLease;
+import com.microservices.ticket_service.models.TicketCategory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static org.springframework.util.StringUtils.hasText;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotEventStockService {
+
+    private static final long SHUTDOWN_SETTLE_MILLIS = 5000;
+    private static final long SETTLE_POLL_MILLIS = 50;
+
+    private final EnvConfiguration envConfiguration;
+    private final EventDao eventDao;
+    private final TicketDao ticketDao;
+
+    private final Map<String, HotStockCounter> counters = new ConcurrentHashMap<>();
+    private Set<String> hotEventIds = Set.of();
+
+    @PostConstruct
+    void loadHotEventIds() {
+        String configuredIds = envConfiguration.getHotEventIds();
+        if (!hasText(configuredIds)) {
+            return;
+        }
+
+        if (!hasText(envConfiguration.getInstanceId())) {
+            throw new IllegalStateException("booking.properties.instance-id (INSTANCE_ID) must be set to a stable value when hot events are configured");
+        }
+
+        hotEventIds = Arrays.stream(configuredIds.split(","))
+                .map(String::trim)
+                .filter(eventId -> !eventId.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+
+        log.info("Hot event mode enabled for {} event(s) on instance {}", hotEventIds.size(), envConfiguration.getInstanceId());
+    }
+
+    public boolean isHotEvent(String eventId) {
+        return hotEventIds.contains(eventId);
+    }
+
+    public String resolveLeaseId(String eventId, TicketCategory ticketCategory) {
+        return isHotEvent(eventId) ? buildLeaseId(eventId, ticketCategory) : null;
+    }
+
+    public boolean reserve(String eventId, TicketCategory ticketCategory, int quantity) {
+        HotStockCounter counter = getCounter(eventId, ticketCategory);
+        if (counter.tryTake(quantity)) {
+            return true;
+        }
+
+        counter.getRefillLock().lock();
+        try {
+            while (!counter.tryTake(quantity)) {
+                if (!counter.isServing()) {
+                    return false;
+                }
+
+                if (!claimLease(counter, quantity)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            counter.getRefillLock().unlock();
+        }
+    }
+
+    public void release(String eventId, TicketCategory ticketCategory, int quantity) {
+        getCounter(eventId, ticketCategory).giveBack(quantity);
+    }
+
+    public void settle(String eventId, TicketCategory ticketCategory, int quantity) {
+        HotStockCounter counter = counters.get(buildLeaseId(eventId, ticketCategory));
+        if (!isNull(counter)) {
+            counter.settle(quantity);
+        }
+    }
+
+    public void releaseSoldTickets(String leaseId, String eventId, TicketCategory ticketCategory, int quantity) {
+        eventDao.releaseLeasedTickets(eventId, leaseId, ticketCategory, quantity);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.properties.hot-event-lease-heartbeat-millis:10000}")
+    void renewLeases() {
+        LocalDateTime now = LocalDateTime.now();
+        long servingUntil = getServingUntil();
+        counters.values().forEach(counter -> {
+            if (eventDao.renewStockLease(counter.getEventId(), counter.getLeaseId(), now)) {
+                counter.extendServing(servingUntil);
+                return;
+            }
+
+            counter.getRefillLock().lock();
+            try {
+                long dropped = counter.drain();
+                eventDao.addStockLease(counter.getEventId(), buildStockLease(counter.getLeaseId(), counter.getTicketCategory(), now));
+                counter.extendServing(servingUntil);
+                log.warn("Lease {} was reclaimed by another instance, dropped {} unsold ticket(s) from memory", counter.getLeaseId(), dropped);
+            } finally {
+                counter.getRefillLock().unlock();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    void reclaimStaleLeases() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(envConfiguration.getHotEventLeaseStaleSeconds());
+
+        for (Event event : eventDao.findEventsWithStaleStockLeases(staleBefore)) {
+            event.getStockLeases().stream()
+                    .filter(stockLease -> !isNull(stockLease.getHeartbeatAt()) && stockLease.getHeartbeatAt().isBefore(staleBefore))
+                    .forEach(stockLease -> reclaimLease(event.getId(), stockLease));
+        }
+    }
+
+    @PreDestroy
+    void returnUnsoldLeases() {
+        counters.values().forEach(HotStockCounter::close);
+        awaitInFlightReservations();
+
+        counters.values().forEach(counter -> {
+            long unsold = counter.drain();
+            if (unsold > 0) {
+                eventDao.releaseLeasedTickets(counter.getEventId(), counter.getLeaseId(), counter.getTicketCategory(), unsold);
+            }
+            log.info("Returned {} unsold {} ticket(s) of hot event {} ({} sold from memory)",
+                    unsold, counter.getTicketCategory(), counter.getEventId(), counter.getSold());
+        });
+    }
+
+    private void reclaimLease(String eventId, StockLease stockLease) {
+        HotStockCounter ownCounter = counters.get(stockLease.getLeaseId());
+        if (!isNull(ownCounter)) {
+            ownCounter.extendServing(0);
+            if (ownCounter.getInFlight() > 0) {
+                log.info("Deferring reclaim of own lease {} until {} in-flight ticket(s) are settled", stockLease.getLeaseId(), ownCounter.getInFlight());
+                return;
+            }
+        }
+
+        long unsold = Math.max(0, stockLease.getLeased() - ticketDao.countByLeaseId(stockLease.getLeaseId()));
+        if (eventDao.reclaimStockLease(eventId, stockLease, unsold)) {
+            log.info("Reclaimed {} unsold {} ticket(s) of event {} from stale lease {} of instance {}",
+                    unsold, stockLease.getTicketCategory(), eventId, stockLease.getLeaseId(), stockLease.getInstanceId());
+        }
+    }
+
+    private boolean claimLease(HotStockCounter counter, int quantity) {
+        long missing = quantity - counter.getRemaining();
+        if (missing <= 0) {
+            return true;
+        }
+
+        long blockSize = Math.max(missing, envConfiguration.getHotEventLeaseSize());
+        if (eventDao.reserveLeasedTickets(counter.getEventId(), counter.getLeaseId(), counter.getTicketCategory(), blockSize)) {
+            counter.give(blockSize);
+            return true;
+        }
+
+        if (blockSize > missing && eventDao.reserveLeasedTickets(counter.getEventId(), counter.getLeaseId(), counter.getTicketCategory(), missing)) {
+            counter.give(missing);
+            return true;
+        }
+
+        return false;
+    }
+
+    private HotStockCounter getCounter(String eventId, TicketCategory ticketCategory) {
+        String leaseId = buildLeaseId(eventId, ticketCategory);
+        HotStockCounter counter = counters.get(leaseId);
+        if (!isNull(counter)) {
+            return counter;
+        }
+
+        HotStockCounter rebuiltCounter = rebuildCounter(leaseId, eventId, ticketCategory);
+        HotStockCounter existingCounter = counters.putIfAbsent(leaseId, rebuiltCounter);
+        return isNull(existingCounter) ? rebuiltCounter : existingCounter;
+    }
+
+    private HotStockCounter rebuildCounter(String leaseId, String eventId, TicketCategory ticketCategory) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<StockLease> stockLease = eventDao.renewStockLease(eventId, leaseId, now)
+                ? eventDao.findStockLease(eventId, leaseId)
+                : Optional.empty();
+
+        if (stockLease.isEmpty()) {
+            eventDao.addStockLease(eventId, buildStockLease(leaseId, ticketCategory, now));
+            return new HotStockCounter(leaseId, eventId, ticketCategory, 0, getServingUntil());
+        }
+
+        long unsold = Math.max(0, stockLease.get().getLeased() - ticketDao.countByLeaseId(leaseId));
+        if (unsold > 0) {
+            log.info("Rebuilt {} unsold {} ticket(s) of hot event {} from lease {}", unsold, ticketCategory, eventId, leaseId);
+        }
+
+        return new HotStockCounter(leaseId, eventId, ticketCategory, unsold, getServingUntil());
+    }
+
+    private void awaitInFlightReservations() {
+        long deadline = System.currentTimeMillis() + SHUTDOWN_SETTLE_MILLIS;
+        while (counters.values().stream().anyMatch(counter -> counter.getInFlight() > 0)) {
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("Returning hot event leases with {} ticket(s) still in flight",
+                        counters.values().stream().mapToLong(HotStockCounter::getInFlight).sum());
+                return;
+            }
+
+            try {
+                Thread.sleep(SETTLE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private long getServingUntil() {
+        return System.currentTimeMillis() + envConfiguration.getHotEventLeaseStaleSeconds() * 1000L / 2;
+    }
+
+    private StockLease buildStockLease(String leaseId, TicketCategory ticketCategory, LocalDateTime now) {
+        return StockLease.builder()
+                .leaseId(leaseId)
+                .instanceId(envConfiguration.getInstanceId())
+                .ticketCategory(ticketCategory)
+                .leased(0)
+                .heartbeatAt(now)
+                .build();
+    }
+
+    private String buildLeaseId(String eventId, TicketCategory ticketCategory) {
+        return envConfiguration.getInstanceId() + ":" + eventId + ":" + ticketCategory;
+    }
+
+}
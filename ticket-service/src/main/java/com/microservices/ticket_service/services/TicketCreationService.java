@@ -1,57 +1,136 @@
 package com.microservices.ticket_service.services;
 
 import com.microservices.ticket_service.UuidProvider;
-import com.microservices.ticket_service.dao.EventDao;
+import com.microservices.ticket_service.configuration.EnvConfiguration;
 import com.microservices.ticket_service.dao.TicketDao;
-import com.microservices.ticket_service.models.Event;
 import com.microservices.ticket_service.models.Ticket;
 import com.microservices.ticket_service.models.TicketCategory;
+import com.microservices.ticket_service.models.TicketReservation;
+import com.microservices.ticket_service.models.TicketStatus;
 import com.microservices.ticket_service.models.request.CreateTicketsRequest;
 import com.microservices.ticket_service.models.request.CreateTicketsTicketRequest;
+import com.microservices.ticket_service.models.response.CreateTicketsResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
 
 @Service
 @RequiredArgsConstructor
 public class TicketCreationService {
 
     private final TicketDao ticketDao;
-    private final EventDao eventDao;
+    private final EventCacheService eventCacheService;
     private final UuidProvider uuidProvider;
+    private final TicketReservationService ticketReservationService;
+    private final HotEventStockService hotEventStockService;
+    private final TicketHoldExpirationService ticketHoldExpirationService;
+    private final EnvConfiguration envConfiguration;
+
+    public Map<String, Object> createTickets(CreateTicketsRequest request) {
+        if (isNull(request.getTickets()) || request.getTickets().isEmpty()) {
+            return buildErrorResponse("BAD_REQUEST", "At least one ticket must be provided");
+        }
 
-    public Map<String, String> createTickets(CreateTicketsRequest request) {
         List<String> errors = new ArrayList<>();
+        List<Ticket> tickets = new ArrayList<>();
+        LocalDateTime holdExpiresAt = LocalDateTime.now().plusSeconds(envConfiguration.getTicketHoldTtlSeconds());
+        Set<String> existingEventIds = eventCacheService.findExistingIds(getRequestedEventIds(request.getTickets()));
 
-        request.getTickets().forEach(ticketRequest -> {
-            validateTicketRequest(errors, ticketRequest, request.getUserId());
-        });
+        for (int index = 0; index < request.getTickets().size(); index++) {
+            validateTicketRequest(errors, tickets, index + 1, request.getTickets().get(index), existingEventIds, request.getUserId(), holdExpiresAt);
+        }
 
         if (!errors.isEmpty()) {
-            return singletonMap("BAD_REQUEST", getErrorsAsString(errors));
+            return buildErrorResponse("BAD_REQUEST", getErrorsAsString(errors));
+        }
+
+        List<TicketReservation> reservations = ticketReservationService.groupReservations(tickets);
+        String reservationError = ticketReservationService.reserve(reservations);
+        if (!isNull(reservationError)) {
+            return buildErrorResponse("BAD_REQUEST", reservationError);
         }
 
-        return singletonMap("message", "Tickets created successfully");
+        String saveError = saveReservedTickets(tickets, reservations);
+        if (!isNull(saveError)) {
+            return buildErrorResponse("INTERNAL_SERVER_ERROR", saveError);
+        }
+
+        ticketReservationService.confirm(reservations);
+        tickets.forEach(ticketHoldExpirationService::scheduleExpiration);
+
+        CreateTicketsResponse response = CreateTicketsResponse.builder()
+                .message(tickets.size() + " ticket(s) held successfully, complete the payment before " + holdExpiresAt)
+                .ticketIds(tickets.stream().map(Ticket::getId).toList())
+                .holdExpiresAt(holdExpiresAt)
+                .build();
+
+        return singletonMap("message", response);
+    }
+
+    private Map<String, Object> buildErrorResponse(String status, String error) {
+        CreateTicketsResponse response = CreateTicketsResponse.builder().error(error).build();
+        return singletonMap(status, response);
+    }
+
+    private Set<String> getRequestedEventIds(List<CreateTicketsTicketRequest> ticketRequests) {
+        return ticketRequests.stream()
+                .map(CreateTicketsTicketRequest::getEventId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
     }
 
-    private void validateTicketRequest(List<String> errors, CreateTicketsTicketRequest ticketRequest, String userId) {
-        validateTicketData(errors, ticketRequest);
+    private void validateTicketRequest(List<String> errors, List<Ticket> tickets, int ticketNumber, CreateTicketsTicketRequest ticketRequest,
+                                       Set<String> existingEventIds, String userId, LocalDateTime holdExpiresAt) {
+        List<String> ticketErrors = new ArrayList<>();
+        validateTicketData(ticketErrors, ticketRequest);
 
-        Optional<Event> optionalEvent = eventDao.findById(ticketRequest.getEventId());
-        if (optionalEvent.isEmpty()) {
-            errors.add("Event not found for the specified ID");
+        if (!existingEventIds.contains(ticketRequest.getEventId())) {
+            ticketErrors.add("Event not found for the specified ID");
+        }
+
+        if (!ticketErrors.isEmpty()) {
+            ticketErrors.forEach(error -> errors.add("Ticket " + ticketNumber + ": " + error));
+            return;
         }
 
         TicketCategory ticketCategory = getTicketCategory(ticketRequest.getTicketCategory());
-        Ticket ticket = buildTicket(ticketRequest, ticketCategory, userId);
+        tickets.add(buildTicket(ticketRequest, ticketCategory, userId, holdExpiresAt));
+    }
+
+    private String saveReservedTickets(List<Ticket> tickets, List<TicketReservation> reservations) {
+        List<Integer> failedTicketNumbers;
+        try {
+            failedTicketNumbers = ticketDao.insertAll(tickets);
+        } catch (RuntimeException e) {
+            rollbackReservedTickets(tickets, reservations);
+            throw e;
+        }
+
+        if (failedTicketNumbers.isEmpty()) {
+            return null;
+        }
+
+        rollbackReservedTickets(tickets, reservations);
+
+        List<String> errors = failedTicketNumbers.stream()
+                .map(ticketNumber -> "Ticket " + ticketNumber + ": could not be saved")
+                .toList();
+        return getErrorsAsString(errors);
+    }
 
-        ticketDao.save(ticket);
+    private void rollbackReservedTickets(List<Ticket> tickets, List<TicketReservation> reservations) {
+        ticketDao.deleteAll(tickets.stream().map(Ticket::getId).toList());
+        ticketReservationService.release(reservations);
     }
 
     private TicketCategory getTicketCategory(String ticketCategory) {
@@ -62,7 +141,7 @@ public class TicketCreationService {
         }
     }
 
-    private Ticket buildTicket(CreateTicketsTicketRequest ticketRequest, TicketCategory ticketCategory, String userId) {
+    private Ticket buildTicket(CreateTicketsTicketRequest ticketRequest, TicketCategory ticketCategory, String userId, LocalDateTime holdExpiresAt) {
         return Ticket.builder()
                 .id(uuidProvider.generateUuid())
                 .eventId(ticketRequest.getEventId())
@@ -70,6 +149,9 @@ public class TicketCreationService {
                 .qrCodeData(uuidProvider.generateUuid())
                 .ticketCategory(ticketCategory)
                 .userId(userId)
+                .status(TicketStatus.HELD)
+                .holdExpiresAt(holdExpiresAt)
+                .leaseId(hotEventStockService.resolveLeaseId(ticketRequest.getEventId(), ticketCategory))
                 .build();
     }
 
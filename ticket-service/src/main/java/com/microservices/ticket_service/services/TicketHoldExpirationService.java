@@ -0,0 +1,86 @@
+package com.microservices.ticket_service.services;
+
+import com.microservices.ticket_service.HierarchicalTimingWheel;
+import com.microservices.ticket_service.dao.TicketDao;
+import com.microservices.ticket_service.models.Ticket;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@EnableScheduling
+@RequiredArgsConstructor
+public class TicketHoldExpirationService {
+
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_LEVELS = 4;
+    private static final int EXPIRATION_BATCH_SIZE = 500;
+
+    private final TicketDao ticketDao;
+    private final TicketReservationService ticketReservationService;
+
+    private final HierarchicalTimingWheel<String> holdTimingWheel =
+            new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+
+    @PostConstruct
+    void scheduleActiveHolds() {
+        List<Ticket> activeHolds = ticketDao.findActiveHolds();
+        activeHolds.forEach(this::scheduleExpiration);
+        log.info("Scheduled expiration of {} active ticket hold(s)", activeHolds.size());
+    }
+
+    public void scheduleExpiration(Ticket ticket) {
+        holdTimingWheel.schedule(ticket.getId(), toEpochMillis(ticket.getHoldExpiresAt()) + TICK_MS);
+    }
+
+    @Scheduled(fixedDelay = TICK_MS)
+    public void expireDueHolds() {
+        List<String> dueTicketIds = holdTimingWheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < dueTicketIds.size(); from += EXPIRATION_BATCH_SIZE) {
+            expireBatch(dueTicketIds.subList(from, Math.min(from + EXPIRATION_BATCH_SIZE, dueTicketIds.size())));
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void expireOrphanedHolds() {
+        List<Ticket> overdueHolds = ticketDao.findOverdueHolds(LocalDateTime.now(), EXPIRATION_BATCH_SIZE);
+        if (!overdueHolds.isEmpty()) {
+            expireBatch(overdueHolds.stream().map(Ticket::getId).toList());
+        }
+    }
+
+    private void expireBatch(List<String> ticketIds) {
+        try {
+            ticketDao.markHoldsExpired(ticketIds, LocalDateTime.now());
+
+            List<Ticket> expiredTickets = ticketIds.stream()
+                    .map(ticketDao::removeExpiredHold)
+                    .flatMap(Optional::stream)
+                    .toList();
+            if (expiredTickets.isEmpty()) {
+                return;
+            }
+
+            ticketReservationService.releaseTickets(expiredTickets);
+
+            log.info("Released {} expired ticket hold(s)", expiredTickets.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to expire a batch of {} ticket hold(s)", ticketIds.size(), e);
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -20,6 +21,7 @@ import static java.util.Collections.singletonMap;
 public class TicketManagementService {
 
     private final TicketDao ticketDao;
+    private final TicketReservationService ticketReservationService;
 
     public Map<String, String> cancelTicket(CancelTicketRequest request) {
         Optional<Ticket> optionalTicket = ticketDao.findById(request.getTicketId());
@@ -35,7 +37,15 @@ public class TicketManagementService {
             return singletonMap("BAD_REQUEST", "Cannot cancel a ticket that has already been used");
         }
 
-        ticketDao.delete(optionalTicket.get().getId());
+        if (optionalTicket.get().getStatus() == TicketStatus.EXPIRED) {
+            return singletonMap("BAD_REQUEST", "Cannot cancel a ticket whose hold has expired");
+        }
+
+        Ticket ticket = optionalTicket.get();
+        if (!ticketDao.deleteWithStatus(ticket.getId(), ticket.getStatus())) {
+            return singletonMap("BAD_REQUEST", "Ticket status changed while canceling, please try again");
+        }
+        ticketReservationService.releaseTickets(List.of(ticket));
 
         return singletonMap("message", "Ticket canceled successfully");
     }
@@ -46,6 +56,10 @@ public class TicketManagementService {
             return singletonMap("NOT_FOUND", "Ticket not found with the specified ID");
         }
 
+        if (optionalTicket.get().getStatus() != TicketStatus.VALID) {
+            return singletonMap("BAD_REQUEST", "Only paid tickets that have not been used can be validated");
+        }
+
         optionalTicket.get().setStatus(TicketStatus.USED);
         optionalTicket.get().setScanTime(LocalDateTime.now());
 
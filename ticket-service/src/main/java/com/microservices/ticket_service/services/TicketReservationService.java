@@ -0,0 +1,116 @@
+package com.microservices.ticket_service.services;
+
+import com.microservices.ticket_service.dao.EventDao;
+import com.microservices.ticket_service.models.Ticket;
+import com.microservices.ticket_service.models.TicketCategory;
+import com.microservices.ticket_service.models.TicketReservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Objects.isNull;
+
+@Service
+@RequiredArgsConstructor
+public class TicketReservationService {
+
+    private final EventDao eventDao;
+    private final HotEventStockService hotEventStockService;
+
+    public List<TicketReservation> groupReservations(List<Ticket> tickets) {
+        Map<String, Map<TicketCategory, Integer>> quantitiesByEvent = new TreeMap<>();
+        tickets.forEach(ticket -> quantitiesByEvent
+                .computeIfAbsent(ticket.getEventId(), eventId -> new EnumMap<>(TicketCategory.class))
+                .merge(ticket.getTicketCategory(), 1, Integer::sum));
+
+        List<TicketReservation> reservations = new ArrayList<>();
+        quantitiesByEvent.forEach((eventId, quantities) -> quantities.forEach((ticketCategory, quantity) ->
+                reservations.add(buildReservation(eventId, ticketCategory, quantity))));
+
+        return reservations;
+    }
+
+    public String reserve(List<TicketReservation> reservations) {
+        List<TicketReservation> heldReservations = new ArrayList<>();
+
+        for (TicketReservation reservation : reservations) {
+            boolean isReserved;
+            try {
+                isReserved = reserve(reservation);
+            } catch (RuntimeException e) {
+                release(heldReservations);
+                throw e;
+            }
+
+            if (!isReserved) {
+                release(heldReservations);
+                return "Not enough " + reservation.getTicketCategory() + " tickets available for event " + reservation.getEventId();
+            }
+
+            heldReservations.add(reservation);
+        }
+
+        return null;
+    }
+
+    public void release(List<TicketReservation> reservations) {
+        reservations.forEach(this::release);
+    }
+
+    public void confirm(List<TicketReservation> reservations) {
+        reservations.stream()
+                .filter(reservation -> hotEventStockService.isHotEvent(reservation.getEventId()))
+                .forEach(reservation -> hotEventStockService.settle(reservation.getEventId(), reservation.getTicketCategory(), reservation.getQuantity()));
+    }
+
+    public void releaseTickets(List<Ticket> tickets) {
+        Map<String, List<Ticket>> leasedTickets = new HashMap<>();
+        List<Ticket> unleasedTickets = new ArrayList<>();
+        tickets.stream()
+                .filter(ticket -> !isNull(ticket.getTicketCategory()))
+                .forEach(ticket -> {
+                    if (isNull(ticket.getLeaseId())) {
+                        unleasedTickets.add(ticket);
+                    } else {
+                        leasedTickets.computeIfAbsent(ticket.getLeaseId(), leaseId -> new ArrayList<>()).add(ticket);
+                    }
+                });
+
+        leasedTickets.forEach((leaseId, leaseTickets) -> {
+            Ticket ticket = leaseTickets.get(0);
+            hotEventStockService.releaseSoldTickets(leaseId, ticket.getEventId(), ticket.getTicketCategory(), leaseTickets.size());
+        });
+        groupReservations(unleasedTickets).forEach(reservation ->
+                eventDao.releaseTickets(reservation.getEventId(), reservation.getTicketCategory(), reservation.getQuantity()));
+    }
+
+    private boolean reserve(TicketReservation reservation) {
+        if (hotEventStockService.isHotEvent(reservation.getEventId())) {
+            return hotEventStockService.reserve(reservation.getEventId(), reservation.getTicketCategory(), reservation.getQuantity());
+        }
+        return eventDao.reserveTickets(reservation.getEventId(), reservation.getTicketCategory(), reservation.getQuantity());
+    }
+
+    private void release(TicketReservation reservation) {
+        if (hotEventStockService.isHotEvent(reservation.getEventId())) {
+            hotEventStockService.release(reservation.getEventId(), reservation.getTicketCategory(), reservation.getQuantity());
+            return;
+        }
+        eventDao.releaseTickets(reservation.getEventId(), reservation.getTicketCategory(), reservation.getQuantity());
+    }
+
+    private TicketReservation buildReservation(String eventId, TicketCategory ticketCategory, int quantity) {
+        return TicketReservation.builder()
+                .eventId(eventId)
+                .ticketCategory(ticketCategory)
+                .quantity(quantity)
+                .build();
+    }
+
+}
@@ -1,10 +1,5 @@
 package com.microservices.ticket_service.services;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.microservices.ticket_service.dao.TicketDao;
 import com.microservices.ticket_service.models.Ticket;
 import com.microservices.ticket_service.models.request.GetCurrentUserTicketsRequest;
@@ -23,29 +18,19 @@ public class TicketRetrievalService {
 
     private final TicketDao ticketDao;
 
-    public Map<String, String> getCurrentUserTickets(GetCurrentUserTicketsRequest request) throws JsonProcessingException {
+    public Map<String, Object> getCurrentUserTickets(GetCurrentUserTicketsRequest request) {
         GetCurrentUserTicketsResponse response = GetCurrentUserTicketsResponse.builder().build();
 
         List<Ticket> tickets =  ticketDao.getUserTickets(request.getUserId());
 
         if (tickets.isEmpty()) {
             response.setError("No tickets found for this user");
-            return singletonMap("warning", convertObjectToJsonString(tickets));
+            return singletonMap("warning", response);
         }
 
         response.setTickets(tickets);
 
-        return singletonMap("message", convertObjectToJsonString(response));
-    }
-
-    private String convertObjectToJsonString(Object object) throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        objectMapper.registerModule(new JavaTimeModule());
-
-        return objectMapper.writeValueAsString(object);
+        return singletonMap("message", response);
     }
 
 }
@@ -0,0 +1,39 @@
+package com.microservices.ticket_service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTests {
+
+	@Test
+	void expiresEveryEntryAtItsTickAcrossAllLevels() {
+		HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(1000, 8, 3, 0);
+		List<Long> expirations = List.of(500L, 1000L, 7000L, 8000L, 63000L, 64000L, 300000L, 900000L);
+		expirations.forEach(expiration -> wheel.schedule(expiration, expiration));
+
+		List<Long> expired = new ArrayList<>();
+		for (long now = 0; now <= 1000000; now += 1000) {
+			for (Long expiration : wheel.advance(now)) {
+				assertTrue(expiration / 1000 == now / 1000, "expired at " + now + " instead of " + expiration);
+				expired.add(expiration);
+			}
+		}
+
+		assertEquals(expirations, expired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void expiresOverdueEntriesOnNextAdvance() {
+		HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, 2, 10000);
+		wheel.schedule("overdue", 2000);
+
+		assertEquals(List.of("overdue"), wheel.advance(10000));
+	}
+
+}
@@ -0,0 +1,100 @@
+package com.microservices.ticket_service;
+
+import com.microservices.ticket_service.models.TicketCategory;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotStockCounterTests {
+
+	@Test
+	void takesOnlyWhatRemains() {
+		HotStockCounter counter = new HotStockCounter("lease", "event", TicketCategory.STANDARD, 5, Long.MAX_VALUE);
+
+		assertTrue(counter.tryTake(3));
+		assertFalse(counter.tryTake(3));
+		assertTrue(counter.tryTake(2));
+		assertEquals(0, counter.getRemaining());
+		assertEquals(5, counter.getSold());
+	}
+
+	@Test
+	void givesBackReleasedAndLeasedTickets() {
+		HotStockCounter counter = new HotStockCounter("lease", "event", TicketCategory.STANDARD, 4, Long.MAX_VALUE);
+		counter.tryTake(4);
+
+		counter.giveBack(1);
+		counter.give(10);
+
+		assertEquals(11, counter.getRemaining());
+		assertEquals(3, counter.getSold());
+		assertEquals(11, counter.drain());
+		assertEquals(0, counter.getRemaining());
+	}
+
+	@Test
+	void tracksTakenTicketsUntilTheyAreSettledOrGivenBack() {
+		HotStockCounter counter = new HotStockCounter("lease", "event", TicketCategory.STANDARD, 10, Long.MAX_VALUE);
+
+		counter.tryTake(4);
+		assertEquals(4, counter.getInFlight());
+
+		counter.settle(3);
+		counter.giveBack(1);
+
+		assertEquals(0, counter.getInFlight());
+		assertEquals(3, counter.getSold());
+	}
+
+	@Test
+	void stopsServingOnceClosedOrPastItsDeadline() {
+		HotStockCounter closed = new HotStockCounter("lease", "event", TicketCategory.STANDARD, 10, Long.MAX_VALUE);
+		closed.close();
+		assertFalse(closed.tryTake(1));
+
+		HotStockCounter expired = new HotStockCounter("lease", "event", TicketCategory.STANDARD, 10, System.currentTimeMillis() - 1);
+		assertFalse(expired.tryTake(1));
+
+		expired.extendServing(System.currentTimeMillis() + 60000);
+		assertTrue(expired.tryTake(1));
+		assertEquals(9, expired.getRemaining());
+	}
+
+	@Test
+	void concurrentTakesNeverExceedStock() throws Exception {
+		HotStockCounter counter = new HotStockCounter("lease", "event", TicketCategory.VIP, 1000, Long.MAX_VALUE);
+		ExecutorService executor = Executors.newFixedThreadPool(32);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> takes = new ArrayList<>();
+
+		for (int buyer = 0; buyer < 5000; buyer++) {
+			int quantity = 1 + buyer % 4;
+			takes.add(executor.submit(() -> {
+				start.await();
+				return counter.tryTake(quantity) ? quantity : 0;
+			}));
+		}
+
+		start.countDown();
+		int taken = 0;
+		for (Future<Integer> take : takes) {
+			taken += take.get(1, TimeUnit.MINUTES);
+		}
+		executor.shutdown();
+
+		assertEquals(1000, taken);
+		assertEquals(1000, counter.getSold());
+		assertEquals(0, counter.getRemaining());
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.microservices.ticket_service.services;
+
+import com.microservices.ticket_service.models.Event;
+import com.microservices.ticket_service.models.StockLease;
+import com.microservices.ticket_service.models.Ticket;
+import com.microservices.ticket_service.models.TicketCategory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+		"booking.properties.instance-id=test-instance",
+		"booking.properties.hot-event-ids=hot-stock-event,rebuilt-lease-event,stale-lease-event,in-flight-lease-event",
+		"booking.properties.hot-event-lease-size=50"
+})
+class HotEventStockServiceTests {
+
+	private static final String EVENT_COLLECTION = "EVENTS";
+	private static final String TICKET_COLLECTION = "TICKETS";
+
+	@Autowired
+	private HotEventStockService hotEventStockService;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@AfterEach
+	void deleteEvents() {
+		mongoTemplate.remove(new Query(Criteria.where("_id").in("hot-stock-event", "rebuilt-lease-event", "stale-lease-event", "in-flight-lease-event")), EVENT_COLLECTION);
+		mongoTemplate.remove(new Query(Criteria.where("eventId").in("rebuilt-lease-event", "stale-lease-event", "in-flight-lease-event")), TICKET_COLLECTION);
+	}
+
+	@Test
+	void concurrentBuyersNeverOversellLeasedStock() throws Exception {
+		saveEvent("hot-stock-event", 500, List.of());
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> orders = new ArrayList<>();
+
+		for (int buyer = 0; buyer < 2000; buyer++) {
+			int quantity = 1 + buyer % 3;
+			orders.add(executor.submit(() -> {
+				start.await();
+				if (!hotEventStockService.reserve("hot-stock-event", TicketCategory.STANDARD, quantity)) {
+					return 0;
+				}
+				hotEventStockService.settle("hot-stock-event", TicketCategory.STANDARD, quantity);
+				return quantity;
+			}));
+		}
+
+		start.countDown();
+		int sold = 0;
+		for (Future<Integer> order : orders) {
+			sold += order.get(1, TimeUnit.MINUTES);
+		}
+		executor.shutdown();
+
+		Event event = findEvent("hot-stock-event");
+		assertTrue(sold <= 500);
+		assertEquals(500, event.getAvailableStandardTickets() + getLeased(event));
+		assertEquals(event.getAvailableStandardTickets(), event.getAvailableTickets());
+
+		hotEventStockService.returnUnsoldLeases();
+
+		event = findEvent("hot-stock-event");
+		assertEquals(500 - sold, event.getAvailableStandardTickets());
+		assertEquals(sold, getLeased(event));
+	}
+
+	@Test
+	void rebuildsUnsoldStockFromOwnLease() {
+		String leaseId = "test-instance:rebuilt-lease-event:STANDARD";
+		saveEvent("rebuilt-lease-event", 100, List.of(buildLease(leaseId, 30, LocalDateTime.now())));
+		saveTickets("rebuilt-lease-event", leaseId, 10);
+
+		assertTrue(hotEventStockService.reserve("rebuilt-lease-event", TicketCategory.STANDARD, 20));
+		assertEquals(100, findEvent("rebuilt-lease-event").getAvailableStandardTickets());
+
+		assertTrue(hotEventStockService.reserve("rebuilt-lease-event", TicketCategory.STANDARD, 1));
+		Event event = findEvent("rebuilt-lease-event");
+		assertEquals(50, event.getAvailableStandardTickets());
+		assertEquals(80, getLeased(event));
+	}
+
+	@Test
+	void reclaimsUnsoldStockOfStaleLease() {
+		String leaseId = "gone-instance:stale-lease-event:STANDARD";
+		saveEvent("stale-lease-event", 100, List.of(buildLease(leaseId, 30, LocalDateTime.now().minusHours(1))));
+		saveTickets("stale-lease-event", leaseId, 10);
+
+		hotEventStockService.reclaimStaleLeases();
+
+		Event event = findEvent("stale-lease-event");
+		assertEquals(120, event.getAvailableStandardTickets());
+		assertEquals(120, event.getAvailableTickets());
+		assertFalse(event.getStockLeases().stream().anyMatch(stockLease -> stockLease.getLeaseId().equals(leaseId)));
+	}
+
+	@Test
+	void reclaimsOwnStaleLeaseOnlyOnceInFlightTicketsAreSettled() {
+		String leaseId = "test-instance:in-flight-lease-event:STANDARD";
+		saveEvent("in-flight-lease-event", 100, List.of());
+		assertTrue(hotEventStockService.reserve("in-flight-lease-event", TicketCategory.STANDARD, 5));
+		saveTickets("in-flight-lease-event", leaseId, 3);
+		hotEventStockService.settle("in-flight-lease-event", TicketCategory.STANDARD, 3);
+		markLeaseStale("in-flight-lease-event", leaseId);
+
+		hotEventStockService.reclaimStaleLeases();
+		assertTrue(findEvent("in-flight-lease-event").getStockLeases().stream().anyMatch(stockLease -> stockLease.getLeaseId().equals(leaseId)));
+
+		saveTickets("in-flight-lease-event", leaseId, 2);
+		hotEventStockService.settle("in-flight-lease-event", TicketCategory.STANDARD, 2);
+		hotEventStockService.reclaimStaleLeases();
+
+		Event event = findEvent("in-flight-lease-event");
+		assertEquals(95, event.getAvailableStandardTickets());
+		assertFalse(event.getStockLeases().stream().anyMatch(stockLease -> stockLease.getLeaseId().equals(leaseId)));
+	}
+
+	private void markLeaseStale(String eventId, String leaseId) {
+		mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(eventId).and("stockLeases.leaseId").is(leaseId)),
+				new Update().set("stockLeases.$.heartbeatAt", LocalDateTime.now().minusHours(1)), EVENT_COLLECTION);
+	}
+
+	private void saveEvent(String eventId, int standardStock, List<StockLease> stockLeases) {
+		mongoTemplate.save(Event.builder()
+				.id(eventId)
+				.name("Hot event test")
+				.availableStandardTickets(standardStock)
+				.availableTickets(standardStock)
+				.totalTickets(standardStock)
+				.stockLeases(new ArrayList<>(stockLeases))
+				.build(), EVENT_COLLECTION);
+	}
+
+	private void saveTickets(String eventId, String leaseId, int count) {
+		for (int ticket = 0; ticket < count; ticket++) {
+			mongoTemplate.save(Ticket.builder()
+					.id(UUID.randomUUID().toString())
+					.eventId(eventId)
+					.ticketCategory(TicketCategory.STANDARD)
+					.leaseId(leaseId)
+					.build(), TICKET_COLLECTION);
+		}
+	}
+
+	private StockLease buildLease(String leaseId, long leased, LocalDateTime heartbeatAt) {
+		return StockLease.builder()
+				.leaseId(leaseId)
+				.instanceId(leaseId.substring(0, leaseId.indexOf(':')))
+				.ticketCategory(TicketCategory.STANDARD)
+				.leased(leased)
+				.heartbeatAt(heartbeatAt)
+				.build();
+	}
+
+	private Event findEvent(String eventId) {
+		return mongoTemplate.findById(eventId, Event.class, EVENT_COLLECTION);
+	}
+
+	private long getLeased(Event event) {
+		return event.getStockLeases().stream().mapToLong(StockLease::getLeased).sum();
+	}
+
+}
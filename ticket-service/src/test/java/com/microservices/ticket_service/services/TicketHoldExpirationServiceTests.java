@@ -0,0 +1,117 @@
+package com.microservices.ticket_service.services;
+
+import com.microservices.ticket_service.models.Event;
+import com.microservices.ticket_service.models.Ticket;
+import com.microservices.ticket_service.models.TicketCategory;
+import com.microservices.ticket_service.models.TicketStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class TicketHoldExpirationServiceTests {
+
+	private static final String EVENT_COLLECTION = "EVENTS";
+	private static final String TICKET_COLLECTION = "TICKETS";
+	private static final int STOCK = 100;
+
+	@Autowired
+	private TicketHoldExpirationService ticketHoldExpirationService;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	private String eventId;
+
+	@BeforeEach
+	void createEvent() {
+		eventId = UUID.randomUUID().toString();
+		mongoTemplate.save(Event.builder()
+				.id(eventId)
+				.name("Hold expiration test")
+				.availableStandardTickets(STOCK)
+				.availableTickets(STOCK)
+				.totalTickets(STOCK)
+				.build(), EVENT_COLLECTION);
+	}
+
+	@AfterEach
+	void deleteEvent() {
+		mongoTemplate.remove(new Query(Criteria.where("_id").is(eventId)), EVENT_COLLECTION);
+		mongoTemplate.remove(new Query(Criteria.where("eventId").is(eventId)), TICKET_COLLECTION);
+	}
+
+	@Test
+	void concurrentSweepsReleaseEachExpiredHoldOnce() throws Exception {
+		saveTickets(TicketStatus.HELD, 20);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> sweeps = new ArrayList<>();
+
+		for (int sweep = 0; sweep < 4; sweep++) {
+			sweeps.add(executor.submit(() -> {
+				start.await();
+				ticketHoldExpirationService.expireOrphanedHolds();
+				return null;
+			}));
+		}
+
+		start.countDown();
+		for (Future<?> sweep : sweeps) {
+			sweep.get(1, TimeUnit.MINUTES);
+		}
+		executor.shutdown();
+
+		assertEquals(STOCK + 20, findEvent().getAvailableStandardTickets());
+		assertEquals(STOCK + 20, findEvent().getAvailableTickets());
+		assertEquals(0, countTickets());
+	}
+
+	@Test
+	void releasesHoldsLeftExpiredByAnInterruptedSweep() {
+		saveTickets(TicketStatus.EXPIRED, 5);
+
+		ticketHoldExpirationService.expireOrphanedHolds();
+
+		assertEquals(STOCK + 5, findEvent().getAvailableStandardTickets());
+		assertEquals(0, countTickets());
+	}
+
+	private void saveTickets(TicketStatus status, int count) {
+		for (int ticket = 0; ticket < count; ticket++) {
+			mongoTemplate.save(Ticket.builder()
+					.id(UUID.randomUUID().toString())
+					.eventId(eventId)
+					.ticketCategory(TicketCategory.STANDARD)
+					.status(status)
+					.holdExpiresAt(LocalDateTime.now().minusMinutes(5))
+					.build(), TICKET_COLLECTION);
+		}
+	}
+
+	private Event findEvent() {
+		return mongoTemplate.findById(eventId, Event.class, EVENT_COLLECTION);
+	}
+
+	private long countTickets() {
+		return mongoTemplate.count(new Query(Criteria.where("eventId").is(eventId)), TICKET_COLLECTION);
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.microservices.ticket_service.services;
+
+import com.microservices.ticket_service.models.Event;
+import com.microservices.ticket_service.models.TicketCategory;
+import com.microservices.ticket_service.models.TicketReservation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class TicketReservationServiceTests {
+
+	private static final String EVENT_COLLECTION = "EVENTS";
+	private static final int STANDARD_STOCK = 500;
+	private static final int VIP_STOCK = 50;
+	private static final int BUYERS = 2000;
+
+	@Autowired
+	private TicketReservationService ticketReservationService;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	private String eventId;
+
+	@BeforeEach
+	void createEvent() {
+		eventId = UUID.randomUUID().toString();
+		mongoTemplate.save(Event.builder()
+				.id(eventId)
+				.name("Stress test")
+				.availableStandardTickets(STANDARD_STOCK)
+				.availableVIPTickets(VIP_STOCK)
+				.availableTickets(STANDARD_STOCK + VIP_STOCK)
+				.totalTickets(STANDARD_STOCK + VIP_STOCK)
+				.build(), EVENT_COLLECTION);
+	}
+
+	@AfterEach
+	void deleteEvent() {
+		mongoTemplate.remove(new Query(Criteria.where("_id").is(eventId)), EVENT_COLLECTION);
+	}
+
+	@Test
+	void concurrentBuyersNeverOversell() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<int[]>> orders = new ArrayList<>();
+
+		for (int buyer = 0; buyer < BUYERS; buyer++) {
+			int standardQuantity = 1 + buyer % 3;
+			int vipQuantity = buyer % 2;
+			List<TicketReservation> reservations = buildOrder(standardQuantity, vipQuantity);
+
+			orders.add(executor.submit(() -> {
+				start.await();
+				boolean isReserved = ticketReservationService.reserve(reservations) == null;
+				return isReserved ? new int[]{standardQuantity, vipQuantity} : new int[]{0, 0};
+			}));
+		}
+
+		start.countDown();
+		int soldStandard = 0;
+		int soldVip = 0;
+		for (Future<int[]> order : orders) {
+			int[] sold = order.get(1, TimeUnit.MINUTES);
+			soldStandard += sold[0];
+			soldVip += sold[1];
+		}
+		executor.shutdown();
+
+		Event event = mongoTemplate.findById(eventId, Event.class, EVENT_COLLECTION);
+		assertTrue(event.getAvailableStandardTickets() >= 0);
+		assertTrue(event.getAvailableVIPTickets() >= 0);
+		assertEquals(STANDARD_STOCK - soldStandard, event.getAvailableStandardTickets());
+		assertEquals(VIP_STOCK - soldVip, event.getAvailableVIPTickets());
+		assertEquals(event.getAvailableStandardTickets() + event.getAvailableVIPTickets(), event.getAvailableTickets());
+	}
+
+	private List<TicketReservation> buildOrder(int standardQuantity, int vipQuantity) {
+		List<TicketReservation> reservations = new ArrayList<>();
+		reservations.add(TicketReservation.builder().eventId(eventId).ticketCategory(TicketCategory.STANDARD).quantity(standardQuantity).build());
+		if (vipQuantity > 0) {
+			reservations.add(TicketReservation.builder().eventId(eventId).ticketCategory(TicketCategory.VIP).quantity(vipQuantity).build());
+		}
+		return reservations;
+	}
+
+}
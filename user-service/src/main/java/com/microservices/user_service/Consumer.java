@@ -1,7 +1,5 @@
 package com.microservices.user_service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microservices.user_service.models.request.*;
 import com.microservices.user_service.services.UserDeletionService;
 import com.microservices.user_service.services.UserMutationService;
@@ -24,66 +22,71 @@ public class Consumer {
     private final UserDeletionService userDeletionService;
     private final UserMutationService userMutationService;
     private final UserQueryService userQueryService;
-    private final ObjectMapper objectMapper;
+    private final RpcEnvelope rpcEnvelope;
 
     @RabbitListener(
+            containerFactory = "queryListenerContainerFactory",
             bindings = @QueueBinding(
-                    value = @Queue(value = "user.queue", durable = "true"),
+                    value = @Queue(value = "user.query.queue", durable = "true"),
                     exchange = @Exchange(value = "user-exchange", type = ExchangeTypes.TOPIC),
-                    key = "user.*"
+                    key = "user.query.*"
             )
     )
-    public String handleAuthRequest(String payload, Message message) {
+    @RabbitListener(
+            containerFactory = "commandListenerContainerFactory",
+            bindings = @QueueBinding(
+                    value = @Queue(value = "user.command.queue", durable = "true"),
+                    exchange = @Exchange(value = "user-exchange", type = ExchangeTypes.TOPIC),
+                    key = "user.command.*"
+            )
+    )
+    public Message handleAuthRequest(Message message) {
         String routingKey = message.getMessageProperties().getReceivedRoutingKey();
 
         try {
-            Map<String, String> result = switch (routingKey) {
-                case "user.getUserById" -> {
-                    GetUserByIdRequest getUserByIdRequest = objectMapper.readValue(payload, GetUserByIdRequest.class);
+            Map<String, ?> result = switch (routingKey) {
+                case "user.query.getUserById" -> {
+                    GetUserByIdRequest getUserByIdRequest = rpcEnvelope.readRequest(message, GetUserByIdRequest.class);
                     yield userQueryService.getUserById(getUserByIdRequest);
                 }
-                case "user.getAuthenticatedUser" -> {
-                    GetCurrentUserInfoRequest getCurrentUserInfoRequest = objectMapper.readValue(payload, GetCurrentUserInfoRequest.class);
+                case "user.query.getAuthenticatedUser" -> {
+                    GetCurrentUserInfoRequest getCurrentUserInfoRequest = rpcEnvelope.readRequest(message, GetCurrentUserInfoRequest.class);
                     yield userQueryService.getCurrentUserInfo(getCurrentUserInfoRequest);
                 }
-                case "user.deleteCurrentUser" -> {
-                    DeleteCurrentUserRequest deleteCurrentUserRequest = objectMapper.readValue(payload, DeleteCurrentUserRequest.class);
+                case "user.command.deleteCurrentUser" -> {
+                    DeleteCurrentUserRequest deleteCurrentUserRequest = rpcEnvelope.readRequest(message, DeleteCurrentUserRequest.class);
                     yield userDeletionService.deleteCurrentUser(deleteCurrentUserRequest);
                 }
-                case "user.updateUsername" -> {
-                    UpdateUsernameRequest updateUsernameRequest = objectMapper.readValue(payload, UpdateUsernameRequest.class);
+                case "user.command.updateUsername" -> {
+                    UpdateUsernameRequest updateUsernameRequest = rpcEnvelope.readRequest(message, UpdateUsernameRequest.class);
                     yield userMutationService.updateUsername(updateUsernameRequest);
                 }
-                case "user.updateEmail" -> {
-                    UpdateEmailRequest updateEmailRequest = objectMapper.readValue(payload, UpdateEmailRequest.class);
+                case "user.command.updateEmail" -> {
+                    UpdateEmailRequest updateEmailRequest = rpcEnvelope.readRequest(message, UpdateEmailRequest.class);
                     yield userMutationService.updateEmail(updateEmailRequest);
                 }
-                case "user.updatePhone" -> {
-                    UpdatePhoneRequest updatePhoneRequest = objectMapper.readValue(payload, UpdatePhoneRequest.class);
+                case "user.command.updatePhone" -> {
+                    UpdatePhoneRequest updatePhoneRequest = rpcEnvelope.readRequest(message, UpdatePhoneRequest.class);
                     yield userMutationService.updatePhone(updatePhoneRequest);
                 }
-                case "user.updatePassword" -> {
-                    UpdatePasswordRequest updatePasswordRequest = objectMapper.readValue(payload, UpdatePasswordRequest.class);
+                case "user.command.updatePassword" -> {
+                    UpdatePasswordRequest updatePasswordRequest = rpcEnvelope.readRequest(message, UpdatePasswordRequest.class);
                     yield userMutationService.updatePassword(updatePasswordRequest);
                 }
-                case "user.updateUser" -> {
-                    UpdateUserRequest updateUserRequest = objectMapper.readValue(payload, UpdateUserRequest.class);
+                case "user.command.updateUser" -> {
+                    UpdateUserRequest updateUserRequest = rpcEnvelope.readRequest(message, UpdateUserRequest.class);
                     yield userMutationService.updateUser(updateUserRequest);
                 }
-                case "user.createUser" -> {
-                    CreateUserRequest createUserRequest = objectMapper.readValue(payload, CreateUserRequest.class);
+                case "user.command.createUser" -> {
+                    CreateUserRequest createUserRequest = rpcEnvelope.readRequest(message, CreateUserRequest.class);
                     yield userMutationService.createUser(createUserRequest);
                 }
                 default -> throw new IllegalStateException("Unexpected value: " + routingKey);
             };
 
-            return objectMapper.writeValueAsString(result);
+            return rpcEnvelope.toMessage(message, result);
         } catch (Exception e) {
-            try {
-                return objectMapper.writeValueAsString(Map.of("error", e.getMessage()));
-            } catch (JsonProcessingException ex) {
-                return "{\"error\": \"Internal server error\"}";
-            }
+            return rpcEnvelope.error(message, e.getMessage());
         }
     }
 }
\ No newline at end of file
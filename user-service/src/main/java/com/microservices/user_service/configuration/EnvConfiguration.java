@@ -16,4 +16,10 @@ public class EnvConfiguration {
     private String springRabbitmqPassword;
     private String mongoUri;
     private String databaseName;
+    private int queryConcurrentConsumers;
+    private int queryMaxConcurrentConsumers;
+    private int queryPrefetchCount;
+    private int commandConcurrentConsumers;
+    private int commandMaxConcurrentConsumers;
+    private int commandPrefetchCount;
 }
\ No newline at end of file
@@ -6,8 +6,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 
 @Configuration
 @Profile("!test")
@@ -23,7 +26,16 @@ public class MongoConfiguration {
 
     @Bean
     public MongoTemplate mongoTemplate() {
-        return new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        MongoTemplate mongoTemplate = new MongoTemplate(new SimpleMongoClientDatabaseFactory(mongoClient(), envConfiguration.getDatabaseName()));
+        ensureIndexes(mongoTemplate);
+        return mongoTemplate;
+    }
+
+    private void ensureIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations userIndexes = mongoTemplate.indexOps("USERS");
+        userIndexes.ensureIndex(new Index().on("email", Sort.Direction.ASC).named("email"));
+        userIndexes.ensureIndex(new Index().on("username", Sort.Direction.ASC).named("username"));
+        userIndexes.ensureIndex(new Index().on("phoneNumber", Sort.Direction.ASC).named("phoneNumber").sparse());
     }
 
 }
@@ -25,4 +25,6 @@ public class User {
     @Builder.Default
     private UserRole role = UserRole.USER;
 
+    private long tokenVersion;
+
 }
@@ -82,6 +82,7 @@ public class UserMutationService {
             return singletonMap("BAD_REQUEST", getErrorsAsString(errors));
         }
 
+        updatePasswordRequest.getUser().setTokenVersion(updatePasswordRequest.getUser().getTokenVersion() + 1);
         userDao.save(updatePasswordRequest.getUser());
 
         return singletonMap("message", "Password updated successfully");
@@ -159,6 +160,7 @@ public class UserMutationService {
             try {
                 UserRole newRole = UserRole.valueOf(role.toUpperCase());
                 userToUpdate.setRole(newRole);
+                userToUpdate.setTokenVersion(userToUpdate.getTokenVersion() + 1);
             } catch (IllegalArgumentException e) {
                 errors.add("Invalid role: " + role + ". Allowed values are: " + Arrays.toString(UserRole.values()));
             }
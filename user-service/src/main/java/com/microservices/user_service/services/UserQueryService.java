@@ -1,10 +1,5 @@
 package com.microservices.user_service.services;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.microservices.user_service.dao.UserDao;
 import com.microservices.user_service.models.User;
 import com.microservices.user_service.models.UserRole;
@@ -26,27 +21,27 @@ public class UserQueryService {
 
     private final UserDao userDao;
 
-    public Map<String, String> getUserById(GetUserByIdRequest request) throws JsonProcessingException {
+    public Map<String, Object> getUserById(GetUserByIdRequest request) {
         Optional<User> optionalUser = userDao.findById(request.getUserId());
         GetUserByIdResponse response = GetUserByIdResponse.builder().build();
 
         if (optionalUser.isEmpty()) {
             response.setError("User not found");
-            return singletonMap("NOT_FOUND", convertObjectToJsonString(response));
+            return singletonMap("NOT_FOUND", response);
         }
 
         User user = optionalUser.get();
         if (user.getRole().equals(UserRole.ADMIN)) {
             response.setError("Admin users cannot be retrieved");
-            return singletonMap("FORBIDDEN", convertObjectToJsonString(response));
+            return singletonMap("FORBIDDEN", response);
         }
 
         buildGetUserByIdResponse(response, user);
 
-        return singletonMap("informations", convertObjectToJsonString(response));
+        return singletonMap("informations", response);
     }
 
-    public Map<String, String> getCurrentUserInfo(GetCurrentUserInfoRequest request) throws JsonProcessingException {
+    public Map<String, Object> getCurrentUserInfo(GetCurrentUserInfoRequest request) {
         GetCurrentUserInfoResponse authenticatedUserResponse = GetCurrentUserInfoResponse.builder()
                 .username(request.getUsername())
                 .phoneNumber(request.getPhoneNumber())
@@ -56,7 +51,7 @@ public class UserQueryService {
                 .isValidatedPhoneNumber(request.isValidatedPhoneNumber())
                 .build();
 
-        return singletonMap("informations", convertObjectToJsonString(authenticatedUserResponse));
+        return singletonMap("informations", authenticatedUserResponse);
     }
 
     private void buildGetUserByIdResponse(GetUserByIdResponse response, User user) {
@@ -68,14 +63,4 @@ public class UserQueryService {
         response.setPhoneNumber(user.getPhoneNumber());
     }
 
-    private String convertObjectToJsonString(Object object) throws JsonProcessingException {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        objectMapper.registerModule(new JavaTimeModule());
-
-        return objectMapper.writeValueAsString(object);
-    }
-
 }
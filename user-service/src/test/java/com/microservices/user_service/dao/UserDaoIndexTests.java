@@ -0,0 +1,59 @@
+package com.microservices.user_service.dao;
+
+import org.bson.Document;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class UserDaoIndexTests {
+
+	private static final String USER_COLLECTION = "USERS";
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	static Stream<Arguments> userLookups() {
+		return Stream.of(
+				Arguments.of("isUsernameAlreadyUsed", new Document("username", "index-check"), new Document(), "username"),
+				Arguments.of("isEmailAlreadyUsed", new Document("email", "index-check@booking.com"), new Document(), "email"),
+				Arguments.of("isPhoneNumberAlreadyUsed", new Document("phoneNumber", "+33600000000"), new Document(), "phoneNumber")
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("userLookups")
+	void userLookupsUseTheirIndex(String description, Document filter, Document sort, String expectedIndex) {
+		Document explain = mongoTemplate.getCollection(USER_COLLECTION)
+				.find(filter)
+				.sort(sort)
+				.explain();
+
+		Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+		List<String> indexNames = new ArrayList<>();
+		collectIndexScans(winningPlan, indexNames);
+		assertTrue(indexNames.contains(expectedIndex), description + " did not use " + expectedIndex + ": " + winningPlan.toJson());
+	}
+
+	private void collectIndexScans(Object node, List<String> indexNames) {
+		if (node instanceof Document document) {
+			if ("IXSCAN".equals(document.get("stage"))) {
+				indexNames.add(document.getString("indexName"));
+			}
+			document.values().forEach(value -> collectIndexScans(value, indexNames));
+		}
+		if (node instanceof List<?> list) {
+			list.forEach(value -> collectIndexScans(value, indexNames));
+		}
+	}
+
+}